@@ -0,0 +1,175 @@
+package organizationmanagement.cache;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import organizationmanagement.event.EntityChangeEvent;
+import organizationmanagement.event.RemoteEntityChangeEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+/**
+ * Cross-replica cache invalidation over PostgreSQL LISTEN/NOTIFY.
+ * Every committed {@link EntityChangeEvent} is broadcast on a channel; other replicas re-publish it
+ * locally as a {@link RemoteEntityChangeEvent} so their in-process caches can evict.
+ */
+@Slf4j
+@Component
+public class CacheInvalidationBus {
+    private static final Pattern CHANNEL_PATTERN = Pattern.compile("^[a-z_][a-z0-9_]*$");
+    private static final int POLL_TIMEOUT_MS = 1000;
+    private static final long RECONNECT_DELAY_MS = 5000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DataSourceProperties dataSourceProperties;
+    private final ApplicationEventPublisher eventPublisher;
+    private final boolean enabled;
+    private final String channel;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private volatile boolean running;
+    private volatile boolean listening;
+    private Thread listenerThread;
+
+    public CacheInvalidationBus(JdbcTemplate jdbcTemplate,
+                                DataSourceProperties dataSourceProperties,
+                                ApplicationEventPublisher eventPublisher,
+                                @Value("${organization.cache.invalidation.enabled:true}") boolean enabled,
+                                @Value("${organization.cache.invalidation.channel:organization_cache}") String channel) {
+        if (!CHANNEL_PATTERN.matcher(channel).matches()) {
+            throw new IllegalArgumentException("Invalid cache invalidation channel name: " + channel);
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.dataSourceProperties = dataSourceProperties;
+        this.eventPublisher = eventPublisher;
+        this.enabled = enabled;
+        this.channel = channel;
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        running = true;
+        listenerThread = new Thread(this::listen, "cache-invalidation-listener");
+        listenerThread.setDaemon(true);
+        listenerThread.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        listening = false;
+        if (listenerThread != null) {
+            listenerThread.interrupt();
+        }
+    }
+
+    /**
+     * True while remote changes are being received; caches that must not miss them stop trusting themselves otherwise
+     */
+    public boolean isListening() {
+        return enabled && listening;
+    }
+
+    /**
+     * NOTIFY is issued inside the mutating transaction: PostgreSQL delivers it only once that transaction
+     * commits and drops it on rollback, so other replicas never evict for a change that did not happen.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void publish(EntityChangeEvent event) {
+        if (!enabled) {
+            return;
+        }
+        jdbcTemplate.query("SELECT pg_notify(?, ?)", (ResultSetExtractor<Void>) rs -> null, channel, encode(event));
+    }
+
+    private void listen() {
+        while (running) {
+            try (Connection connection = DriverManager.getConnection(dataSourceProperties.determineUrl(),
+                    dataSourceProperties.determineUsername(), dataSourceProperties.determinePassword())) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + channel);
+                }
+                // Anything committed while we were not listening is unknown: start from a clean slate
+                eventPublisher.publishEvent(RemoteEntityChangeEvent.resync());
+                listening = true;
+                log.info("Listening for cache invalidations on channel {}", channel);
+
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(POLL_TIMEOUT_MS);
+                    if (notifications == null) {
+                        continue;
+                    }
+                    for (PGNotification notification : notifications) {
+                        dispatch(notification.getParameter());
+                    }
+                }
+            } catch (SQLException e) {
+                // Changes may be missed from now on: stop trusting caches right away, not only once reconnected
+                listening = false;
+                eventPublisher.publishEvent(RemoteEntityChangeEvent.resync());
+                if (!running) {
+                    return;
+                }
+                log.warn("Cache invalidation listener lost its connection, retrying in {} ms: {}", RECONNECT_DELAY_MS, e.getMessage());
+                try {
+                    Thread.sleep(RECONNECT_DELAY_MS);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private void dispatch(String payload) {
+        try {
+            String[] parts = payload.split("\\|", -1);
+            if (nodeId.equals(parts[0])) {
+                return; // already applied locally
+            }
+            EntityChangeEvent change = new EntityChangeEvent(
+                    EntityChangeEvent.EntityType.valueOf(parts[1]),
+                    EntityChangeEvent.ChangeType.valueOf(parts[2]),
+                    parseId(parts[3]),
+                    parseId(parts[4]),
+                    parseId(parts[5]),
+                    null);
+            eventPublisher.publishEvent(new RemoteEntityChangeEvent(change));
+        } catch (RuntimeException e) {
+            log.warn("Ignoring malformed cache invalidation payload '{}': {}", payload, e.getMessage());
+        }
+    }
+
+    // nodeId|entityType|changeType|organizationId|entityId|parentId
+    private String encode(EntityChangeEvent event) {
+        return String.join("|", nodeId, event.getEntityType().name(), event.getChangeType().name(),
+                formatId(event.getOrganizationId()), formatId(event.getEntityId()), formatId(event.getParentId()));
+    }
+
+    private static String formatId(UUID id) {
+        return id != null ? id.toString() : "";
+    }
+
+    private static UUID parseId(String value) {
+        return value.isEmpty() ? null : UUID.fromString(value);
+    }
+}
@@ -0,0 +1,244 @@
+package organizationmanagement.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import organizationmanagement.config.DataSourceWorkload;
+import organizationmanagement.event.EntityChangeEvent;
+import organizationmanagement.event.EntityChangeEvent.EntityType;
+import organizationmanagement.event.RemoteEntityChangeEvent;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+
+/**
+ * Bloom filters over organization, department and team ids in front of the public exists endpoints.
+ * A definite "no" is answered from memory; a "maybe" still goes to the database.
+ * <p>
+ * Filters are built in the background at startup and kept current from local and remote CREATED events;
+ * deleted ids simply stay "maybe" until the next scheduled rebuild. Bulk changes and missed remote
+ * notifications make the filters unusable until rebuilt, and lookups fall through to the database meanwhile,
+ * so an existing id is never reported missing.
+ * <p>
+ * Ids created on other replicas arrive over the cache invalidation bus, so the filters are only trusted while it
+ * is listening. Negatives are answered without waiting for the bus: an id committed on another replica can be
+ * reported missing until its notification arrives here, typically a few milliseconds after the commit. Callers
+ * of the exists endpoints already tolerate that staleness from every other cache behind the bus.
+ */
+@Slf4j
+@Component
+public class ExistenceFilter {
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+    private static final long MIN_CAPACITY = 1024;
+    private static final int FETCH_SIZE = 5000;
+    private static final Map<EntityType, String> TABLES = Map.of(
+            EntityType.ORGANIZATION, "organization",
+            EntityType.DEPARTMENT, "department",
+            EntityType.TEAM, "team");
+
+    private final JdbcTemplate cursorJdbcTemplate;
+    private final TransactionTemplate readTransaction;
+    private final MeterRegistry meterRegistry;
+    private final CacheInvalidationBus invalidationBus;
+    private final boolean enabled;
+    private final ExecutorService rebuilder;
+    private final AtomicLong generation = new AtomicLong();
+    private final AtomicBoolean rebuildQueued = new AtomicBoolean();
+
+    // null while the filters cannot be trusted; every lookup then goes to the database
+    private volatile Map<EntityType, BloomFilter> current;
+    // filters being filled by a rebuild, so ids created meanwhile are not lost
+    private volatile Map<EntityType, BloomFilter> building;
+
+    @Autowired
+    public ExistenceFilter(DataSource dataSource,
+                           PlatformTransactionManager transactionManager,
+                           MeterRegistry meterRegistry,
+                           CacheInvalidationBus invalidationBus,
+                           @Value("${organization.cache.exists-filter.enabled:true}") boolean enabled) {
+        this(new JdbcTemplate(dataSource), new TransactionTemplate(transactionManager), meterRegistry, invalidationBus, enabled);
+    }
+
+    ExistenceFilter(JdbcTemplate cursorJdbcTemplate,
+                    TransactionTemplate readTransaction,
+                    MeterRegistry meterRegistry,
+                    CacheInvalidationBus invalidationBus,
+                    boolean enabled) {
+        this.cursorJdbcTemplate = cursorJdbcTemplate;
+        this.cursorJdbcTemplate.setFetchSize(FETCH_SIZE);
+        this.readTransaction = readTransaction;
+        this.readTransaction.setReadOnly(true);
+        this.meterRegistry = meterRegistry;
+        this.invalidationBus = invalidationBus;
+        this.enabled = enabled;
+        this.rebuilder = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "exists-filter-rebuild");
+            thread.setDaemon(true);
+            return thread;
+        });
+        for (EntityType type : EntityType.values()) {
+            Gauge.builder("organization.exists.filter.estimated.fpp", this, filter -> filter.estimatedFalsePositiveRate(type))
+                    .tag("type", type.name().toLowerCase())
+                    .description("False-positive probability implied by the current filter fill")
+                    .register(meterRegistry);
+        }
+    }
+
+    /**
+     * Answer an exists check, consulting the database only when the filter cannot rule the id out
+     */
+    public boolean exists(EntityType type, UUID id, Predicate<UUID> database) {
+        Map<EntityType, BloomFilter> filters = current;
+        if (filters == null || !invalidationBus.isListening()) {
+            count(type, "bypass");
+            return database.test(id);
+        }
+        if (!filters.get(type).mightContain(id)) {
+            count(type, "negative");
+            return false;
+        }
+        boolean exists = database.test(id);
+        count(type, exists ? "true_positive" : "false_positive");
+        return exists;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        requestRebuild();
+    }
+
+    // Nightly by default, to forget deleted ids and resize for growth
+    @Scheduled(cron = "${organization.cache.exists-filter.rebuild-cron:0 0 4 * * *}")
+    public void scheduledRebuild() {
+        requestRebuild();
+    }
+
+    // Inside the creating transaction: the id is known before anyone can see the commit
+    @EventListener
+    public void onEntityChange(EntityChangeEvent event) {
+        apply(event);
+    }
+
+    // Again after commit, for a rebuild that started scanning before the row was visible
+    @TransactionalEventListener(fallbackExecution = true)
+    public void afterEntityChange(EntityChangeEvent event) {
+        apply(event);
+    }
+
+    @EventListener
+    public void onRemoteEntityChange(RemoteEntityChangeEvent event) {
+        if (event.isResync()) {
+            invalidate();
+        } else {
+            apply(event.getChange());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        rebuilder.shutdownNow();
+    }
+
+    private void apply(EntityChangeEvent event) {
+        switch (event.getChangeType()) {
+            case CREATED, UPDATED -> add(event.getEntityType(), event.getEntityId());
+            case BULK_CHANGED -> invalidate();
+            case DELETED -> { } // stays a "maybe" until the next rebuild
+        }
+    }
+
+    private void add(EntityType type, UUID id) {
+        if (id == null) {
+            return;
+        }
+        Map<EntityType, BloomFilter> filters = current;
+        if (filters != null) {
+            BloomFilter filter = filters.get(type);
+            filter.put(id);
+            if (filter.insertions() > filter.expectedInsertions()) {
+                requestRebuild(); // past its sizing the false-positive rate climbs quickly
+            }
+        }
+        Map<EntityType, BloomFilter> inProgress = building;
+        if (inProgress != null) {
+            inProgress.get(type).put(id);
+        }
+    }
+
+    private void invalidate() {
+        generation.incrementAndGet();
+        current = null;
+        requestRebuild();
+    }
+
+    private void requestRebuild() {
+        if (enabled && rebuildQueued.compareAndSet(false, true)) {
+            rebuilder.execute(this::rebuild);
+        }
+    }
+
+    void rebuild() {
+        // Cleared first, so an invalidation during the scan queues one more run
+        rebuildQueued.set(false);
+        long startGeneration = generation.get();
+        Map<EntityType, BloomFilter> fresh = new EnumMap<>(EntityType.class);
+        try {
+            DataSourceWorkload.callAs(DataSourceWorkload.ADMIN, () -> readTransaction.execute(status -> {
+                for (EntityType type : EntityType.values()) {
+                    Long rows = cursorJdbcTemplate.queryForObject("SELECT count(*) FROM " + TABLES.get(type), Long.class);
+                    // Twice the current size, so regular growth fits until the next scheduled rebuild
+                    fresh.put(type, new BloomFilter(Math.max(MIN_CAPACITY, (rows != null ? rows : 0) * 2), FALSE_POSITIVE_RATE));
+                }
+                building = fresh;
+                for (EntityType type : EntityType.values()) {
+                    BloomFilter filter = fresh.get(type);
+                    cursorJdbcTemplate.query("SELECT id FROM " + TABLES.get(type),
+                            rs -> { filter.put(rs.getObject(1, UUID.class)); });
+                }
+                return null;
+            }));
+            if (generation.get() == startGeneration) {
+                current = fresh;
+                log.info("Existence filters rebuilt: {} organizations, {} departments, {} teams",
+                        fresh.get(EntityType.ORGANIZATION).insertions(), fresh.get(EntityType.DEPARTMENT).insertions(),
+                        fresh.get(EntityType.TEAM).insertions());
+            }
+        } catch (RuntimeException e) {
+            log.warn("Rebuilding existence filters failed, exists checks go to the database: {}", e.getMessage());
+        } finally {
+            building = null;
+        }
+    }
+
+    private double estimatedFalsePositiveRate(EntityType type) {
+        Map<EntityType, BloomFilter> filters = current;
+        return filters != null ? filters.get(type).estimatedFalsePositiveRate() : Double.NaN;
+    }
+
+    private void count(EntityType type, String outcome) {
+        Counter.builder("organization.exists.filter")
+                .tag("type", type.name().toLowerCase())
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .increment();
+    }
+}
@@ -0,0 +1,267 @@
+package organizationmanagement.cache;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Immutable snapshot of one organization's department/team structure.
+ * UUIDs are stored as interleaved (most, least) significant longs and a team points to its
+ * department by array index, so a tenant with thousands of units is a handful of flat arrays.
+ * Every mutation returns a new snapshot, which keeps readers lock-free.
+ */
+public final class OrganizationTree {
+
+    private final UUID organizationId;
+    private final String organizationName;
+    private final long[] departmentIds;
+    private final String[] departmentNames;
+    private final long[] teamIds;
+    private final String[] teamNames;
+    private final int[] teamDepartments;
+    private final long fingerprint;
+
+    private OrganizationTree(UUID organizationId, String organizationName,
+                             long[] departmentIds, String[] departmentNames,
+                             long[] teamIds, String[] teamNames, int[] teamDepartments) {
+        this.organizationId = organizationId;
+        this.organizationName = organizationName;
+        this.departmentIds = departmentIds;
+        this.departmentNames = departmentNames;
+        this.teamIds = teamIds;
+        this.teamNames = teamNames;
+        this.teamDepartments = teamDepartments;
+        this.fingerprint = computeFingerprint();
+    }
+
+    /**
+     * Build a tree from (id, name) department rows and (id, name, departmentId) team rows.
+     * Teams whose department is not among the rows are dropped.
+     */
+    public static OrganizationTree build(UUID organizationId, String organizationName,
+                                         List<Object[]> departmentRows, List<Object[]> teamRows) {
+        int departmentCount = departmentRows.size();
+        long[] departmentIds = new long[departmentCount * 2];
+        String[] departmentNames = new String[departmentCount];
+        Map<UUID, Integer> departmentIndex = new HashMap<>(departmentCount * 2);
+        for (int i = 0; i < departmentCount; i++) {
+            Object[] row = departmentRows.get(i);
+            UUID id = (UUID) row[0];
+            departmentIds[i * 2] = id.getMostSignificantBits();
+            departmentIds[i * 2 + 1] = id.getLeastSignificantBits();
+            departmentNames[i] = (String) row[1];
+            departmentIndex.put(id, i);
+        }
+
+        long[] teamIds = new long[teamRows.size() * 2];
+        String[] teamNames = new String[teamRows.size()];
+        int[] teamDepartments = new int[teamRows.size()];
+        int teamCount = 0;
+        for (Object[] row : teamRows) {
+            Integer parent = departmentIndex.get((UUID) row[2]);
+            if (parent == null) {
+                continue;
+            }
+            UUID id = (UUID) row[0];
+            teamIds[teamCount * 2] = id.getMostSignificantBits();
+            teamIds[teamCount * 2 + 1] = id.getLeastSignificantBits();
+            teamNames[teamCount] = (String) row[1];
+            teamDepartments[teamCount] = parent;
+            teamCount++;
+        }
+
+        return new OrganizationTree(organizationId, organizationName,
+                departmentIds, departmentNames,
+                Arrays.copyOf(teamIds, teamCount * 2), Arrays.copyOf(teamNames, teamCount), Arrays.copyOf(teamDepartments, teamCount));
+    }
+
+    // ===== READS =====
+
+    public UUID getOrganizationId() { return organizationId; }
+
+    public String getOrganizationName() { return organizationName; }
+
+    public int departmentCount() { return departmentNames.length; }
+
+    public UUID departmentId(int index) { return new UUID(departmentIds[index * 2], departmentIds[index * 2 + 1]); }
+
+    public String departmentName(int index) { return departmentNames[index]; }
+
+    public int teamCount() { return teamNames.length; }
+
+    public UUID teamId(int index) { return new UUID(teamIds[index * 2], teamIds[index * 2 + 1]); }
+
+    public String teamName(int index) { return teamNames[index]; }
+
+    /**
+     * Index of the team's department in the department arrays
+     */
+    public int teamDepartment(int index) { return teamDepartments[index]; }
+
+    /**
+     * Content hash over the organization name and every unit's id, name and parent; used as hierarchy ETag
+     */
+    public long fingerprint() { return fingerprint; }
+
+    public boolean containsDepartment(UUID id) { return indexOf(departmentIds, id) >= 0; }
+
+    public boolean containsTeam(UUID id) { return indexOf(teamIds, id) >= 0; }
+
+    // ===== INCREMENTAL UPDATES =====
+
+    public OrganizationTree withOrganizationName(String name) {
+        return new OrganizationTree(organizationId, name, departmentIds, departmentNames, teamIds, teamNames, teamDepartments);
+    }
+
+    /**
+     * Add the department, or rename it when already present
+     */
+    public OrganizationTree withDepartment(UUID id, String name) {
+        int index = indexOf(departmentIds, id);
+        if (index >= 0) {
+            String[] names = departmentNames.clone();
+            names[index] = name;
+            return new OrganizationTree(organizationId, organizationName, departmentIds, names, teamIds, teamNames, teamDepartments);
+        }
+        int count = departmentNames.length;
+        long[] ids = Arrays.copyOf(departmentIds, (count + 1) * 2);
+        ids[count * 2] = id.getMostSignificantBits();
+        ids[count * 2 + 1] = id.getLeastSignificantBits();
+        String[] names = Arrays.copyOf(departmentNames, count + 1);
+        names[count] = name;
+        return new OrganizationTree(organizationId, organizationName, ids, names, teamIds, teamNames, teamDepartments);
+    }
+
+    /**
+     * Remove the department together with its teams
+     */
+    public OrganizationTree withoutDepartment(UUID id) {
+        int removed = indexOf(departmentIds, id);
+        if (removed < 0) {
+            return this;
+        }
+        int count = departmentNames.length;
+        long[] ids = new long[(count - 1) * 2];
+        String[] names = new String[count - 1];
+        System.arraycopy(departmentIds, 0, ids, 0, removed * 2);
+        System.arraycopy(departmentIds, (removed + 1) * 2, ids, removed * 2, (count - removed - 1) * 2);
+        System.arraycopy(departmentNames, 0, names, 0, removed);
+        System.arraycopy(departmentNames, removed + 1, names, removed, count - removed - 1);
+
+        int teamCount = teamNames.length;
+        long[] newTeamIds = new long[teamCount * 2];
+        String[] newTeamNames = new String[teamCount];
+        int[] newTeamDepartments = new int[teamCount];
+        int kept = 0;
+        for (int i = 0; i < teamCount; i++) {
+            int parent = teamDepartments[i];
+            if (parent == removed) {
+                continue;
+            }
+            newTeamIds[kept * 2] = teamIds[i * 2];
+            newTeamIds[kept * 2 + 1] = teamIds[i * 2 + 1];
+            newTeamNames[kept] = teamNames[i];
+            newTeamDepartments[kept] = parent > removed ? parent - 1 : parent;
+            kept++;
+        }
+        return new OrganizationTree(organizationId, organizationName, ids, names,
+                Arrays.copyOf(newTeamIds, kept * 2), Arrays.copyOf(newTeamNames, kept), Arrays.copyOf(newTeamDepartments, kept));
+    }
+
+    /**
+     * Add the team, or rename/move it when already present.
+     * Returns null when the department is not part of this tree, so the caller can reload instead.
+     */
+    public OrganizationTree withTeam(UUID id, String name, UUID departmentId) {
+        int parent = departmentId != null ? indexOf(departmentIds, departmentId) : -1;
+        if (parent < 0) {
+            return null;
+        }
+        int index = indexOf(teamIds, id);
+        if (index >= 0) {
+            String[] names = teamNames.clone();
+            int[] parents = teamDepartments.clone();
+            names[index] = name;
+            parents[index] = parent;
+            return new OrganizationTree(organizationId, organizationName, departmentIds, departmentNames, teamIds, names, parents);
+        }
+        int count = teamNames.length;
+        long[] ids = Arrays.copyOf(teamIds, (count + 1) * 2);
+        ids[count * 2] = id.getMostSignificantBits();
+        ids[count * 2 + 1] = id.getLeastSignificantBits();
+        String[] names = Arrays.copyOf(teamNames, count + 1);
+        names[count] = name;
+        int[] parents = Arrays.copyOf(teamDepartments, count + 1);
+        parents[count] = parent;
+        return new OrganizationTree(organizationId, organizationName, departmentIds, departmentNames, ids, names, parents);
+    }
+
+    public OrganizationTree withoutTeam(UUID id) {
+        int removed = indexOf(teamIds, id);
+        if (removed < 0) {
+            return this;
+        }
+        int count = teamNames.length;
+        long[] ids = new long[(count - 1) * 2];
+        String[] names = new String[count - 1];
+        int[] parents = new int[count - 1];
+        System.arraycopy(teamIds, 0, ids, 0, removed * 2);
+        System.arraycopy(teamIds, (removed + 1) * 2, ids, removed * 2, (count - removed - 1) * 2);
+        System.arraycopy(teamNames, 0, names, 0, removed);
+        System.arraycopy(teamNames, removed + 1, names, removed, count - removed - 1);
+        System.arraycopy(teamDepartments, 0, parents, 0, removed);
+        System.arraycopy(teamDepartments, removed + 1, parents, removed, count - removed - 1);
+        return new OrganizationTree(organizationId, organizationName, departmentIds, departmentNames, ids, names, parents);
+    }
+
+    // ===== HELPERS =====
+
+    private static int indexOf(long[] ids, UUID id) {
+        long most = id.getMostSignificantBits();
+        long least = id.getLeastSignificantBits();
+        for (int i = 0; i < ids.length; i += 2) {
+            if (ids[i] == most && ids[i + 1] == least) {
+                return i / 2;
+            }
+        }
+        return -1;
+    }
+
+    // Order-independent sum of per-unit hashes, so incremental updates and a fresh load agree
+    private long computeFingerprint() {
+        long hash = mix(organizationId.getMostSignificantBits() ^ mix(organizationId.getLeastSignificantBits()))
+                ^ hash64(organizationName);
+        for (int i = 0; i < departmentNames.length; i++) {
+            hash += mix(mix(departmentIds[i * 2] ^ 0x1L) ^ departmentIds[i * 2 + 1]) ^ hash64(departmentNames[i]);
+        }
+        for (int i = 0; i < teamNames.length; i++) {
+            int parent = teamDepartments[i];
+            long parentHash = mix(departmentIds[parent * 2] ^ mix(departmentIds[parent * 2 + 1]));
+            hash += mix(mix(teamIds[i * 2] ^ 0x2L) ^ teamIds[i * 2 + 1]) ^ hash64(teamNames[i]) ^ parentHash;
+        }
+        return hash;
+    }
+
+    // 64-bit FNV-1a, String.hashCode is too collision-prone for an ETag
+    private static long hash64(String value) {
+        if (value == null) {
+            return 0L;
+        }
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return mix(hash);
+    }
+
+    // SplitMix64 finalizer
+    private static long mix(long value) {
+        long z = value;
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,212 @@
+package organizationmanagement.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import organizationmanagement.event.EntityChangeEvent;
+import organizationmanagement.event.RemoteEntityChangeEvent;
+import organizationmanagement.exception.ResourceNotFoundException;
+import organizationmanagement.model.Organization;
+import organizationmanagement.repository.DepartmentRepository;
+import organizationmanagement.repository.OrganizationRepository;
+import organizationmanagement.repository.TeamRepository;
+import organizationmanagement.util.SingleFlight;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Materialized organization -> department -> team trees, loaded lazily per tenant, kept current from
+ * committed {@link EntityChangeEvent}s and bounded by an LRU over tenants.
+ */
+@Slf4j
+@Component
+public class OrganizationTreeCache {
+
+    private final OrganizationRepository organizationRepository;
+    private final DepartmentRepository departmentRepository;
+    private final TeamRepository teamRepository;
+    private final TransactionTemplate readTransaction;
+    private final Map<UUID, OrganizationTree> trees;
+    // Trees are immutable, so concurrent misses for one tenant share a single load; keyed by generation
+    // as well, so a caller arriving after a change never joins a load that started before it
+    private final SingleFlight<LoadKey, OrganizationTree> loads = new SingleFlight<>();
+
+    // Bumped on every change; a load that raced with a change is returned but not cached
+    private final AtomicLong generation = new AtomicLong();
+
+    public OrganizationTreeCache(OrganizationRepository organizationRepository,
+                                 DepartmentRepository departmentRepository,
+                                 TeamRepository teamRepository,
+                                 PlatformTransactionManager transactionManager,
+                                 @Value("${organization.cache.tree.max-tenants:256}") int maxTenants) {
+        this.organizationRepository = organizationRepository;
+        this.departmentRepository = departmentRepository;
+        this.teamRepository = teamRepository;
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setReadOnly(true);
+        this.trees = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<UUID, OrganizationTree> eldest) {
+                return size() > maxTenants;
+            }
+        };
+    }
+
+    public OrganizationTree get(UUID organizationId) {
+        synchronized (trees) {
+            OrganizationTree tree = trees.get(organizationId);
+            if (tree != null) {
+                return tree;
+            }
+        }
+        long loadGeneration = generation.get();
+        return loads.execute(new LoadKey(organizationId, loadGeneration), () -> {
+            OrganizationTree tree = readTransaction.execute(status -> load(organizationId));
+            synchronized (trees) {
+                if (generation.get() == loadGeneration) {
+                    trees.put(organizationId, tree);
+                }
+            }
+            return tree;
+        });
+    }
+
+    public void evict(UUID organizationId) {
+        synchronized (trees) {
+            generation.incrementAndGet();
+            trees.remove(organizationId);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEntityChange(EntityChangeEvent event) {
+        synchronized (trees) {
+            generation.incrementAndGet();
+            if (event.getOrganizationId() == null) {
+                return;
+            }
+            switch (event.getEntityType()) {
+                case ORGANIZATION -> applyOrganizationChange(event);
+                case DEPARTMENT -> applyDepartmentChange(event);
+                case TEAM -> applyTeamChange(event);
+            }
+        }
+    }
+
+    /**
+     * Changes made on other replicas carry no names, so the affected trees are dropped and reloaded on demand
+     */
+    @EventListener
+    public void onRemoteEntityChange(RemoteEntityChangeEvent event) {
+        synchronized (trees) {
+            generation.incrementAndGet();
+            if (event.isResync()) {
+                trees.clear();
+                return;
+            }
+            EntityChangeEvent change = event.getChange();
+            if (change.getOrganizationId() != null) {
+                trees.remove(change.getOrganizationId());
+            }
+            if (change.getEntityType() != EntityChangeEvent.EntityType.ORGANIZATION) {
+                evictOthersContaining(change.getOrganizationId(), change.getEntityId(),
+                        change.getEntityType() == EntityChangeEvent.EntityType.DEPARTMENT);
+            }
+        }
+    }
+
+    private OrganizationTree load(UUID organizationId) {
+        Organization org = organizationRepository.findById(organizationId)
+                .orElseThrow(() -> new ResourceNotFoundException("Organization not found with id: " + organizationId));
+        List<Object[]> departments = departmentRepository.findTreeRowsByOrganizationId(organizationId);
+        List<Object[]> teams = teamRepository.findTreeRowsByOrganizationId(organizationId);
+        log.debug("Loaded hierarchy of organization {}: {} departments, {} teams", organizationId, departments.size(), teams.size());
+        return OrganizationTree.build(organizationId, org.getName(), departments, teams);
+    }
+
+    private void applyOrganizationChange(EntityChangeEvent event) {
+        OrganizationTree tree = trees.get(event.getOrganizationId());
+        if (tree == null) {
+            return;
+        }
+        if (event.getChangeType() == EntityChangeEvent.ChangeType.DELETED
+                || event.getChangeType() == EntityChangeEvent.ChangeType.BULK_CHANGED) {
+            trees.remove(event.getOrganizationId());
+        } else {
+            trees.put(event.getOrganizationId(), tree.withOrganizationName(event.getName()));
+        }
+    }
+
+    private void applyDepartmentChange(EntityChangeEvent event) {
+        UUID organizationId = event.getOrganizationId();
+        OrganizationTree tree = trees.get(organizationId);
+        switch (event.getChangeType()) {
+            case CREATED -> {
+                if (tree != null) {
+                    trees.put(organizationId, tree.withDepartment(event.getEntityId(), event.getName()));
+                }
+            }
+            case UPDATED -> {
+                evictOthersContaining(organizationId, event.getEntityId(), true);
+                if (tree == null) {
+                    return;
+                }
+                // A department moved in from another organization brings teams this tree doesn't know about
+                if (tree.containsDepartment(event.getEntityId())) {
+                    trees.put(organizationId, tree.withDepartment(event.getEntityId(), event.getName()));
+                } else {
+                    trees.remove(organizationId);
+                }
+            }
+            case DELETED -> {
+                if (tree != null) {
+                    trees.put(organizationId, tree.withoutDepartment(event.getEntityId()));
+                }
+            }
+        }
+    }
+
+    private void applyTeamChange(EntityChangeEvent event) {
+        UUID organizationId = event.getOrganizationId();
+        if (event.getChangeType() != EntityChangeEvent.ChangeType.DELETED) {
+            evictOthersContaining(organizationId, event.getEntityId(), false);
+        }
+        OrganizationTree tree = trees.get(organizationId);
+        if (tree == null) {
+            return;
+        }
+        OrganizationTree updated = event.getChangeType() == EntityChangeEvent.ChangeType.DELETED
+                ? tree.withoutTeam(event.getEntityId())
+                : tree.withTeam(event.getEntityId(), event.getName(), event.getParentId());
+        if (updated == null) {
+            trees.remove(organizationId);
+        } else {
+            trees.put(organizationId, updated);
+        }
+    }
+
+    // Root admins can move units across organizations; drop any other tree that still holds the unit
+    private void evictOthersContaining(UUID organizationId, UUID entityId, boolean department) {
+        List<UUID> stale = new ArrayList<>();
+        for (Map.Entry<UUID, OrganizationTree> entry : trees.entrySet()) {
+            OrganizationTree tree = entry.getValue();
+            if (!entry.getKey().equals(organizationId)
+                    && (department ? tree.containsDepartment(entityId) : tree.containsTeam(entityId))) {
+                stale.add(entry.getKey());
+            }
+        }
+        stale.forEach(trees::remove);
+    }
+
+    private record LoadKey(UUID organizationId, long generation) {
+    }
+}
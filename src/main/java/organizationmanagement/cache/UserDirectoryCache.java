@@ -0,0 +1,153 @@
+package organizationmanagement.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import organizationmanagement.client.AsyncServiceClient;
+import organizationmanagement.client.AsyncUserServiceClient;
+import organizationmanagement.dto.UserDTO;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Local copy of the user directory for team and department user listings: a bounded LRU of
+ * {@link UserDTO}s by id. Only ids that are missing or expired are fetched from user-service; entries
+ * past the refresh age are still served and re-fetched in the background, so a warm listing makes no
+ * network call. The cached DTOs are shared and must be treated as read-only.
+ * <p>
+ * Background refreshes are started from the request that found the stale entries, which lets them carry
+ * that request's gateway headers to user-service.
+ */
+@Slf4j
+@Component
+public class UserDirectoryCache {
+
+    private final AsyncUserServiceClient userServiceClient;
+    private final boolean enabled;
+    private final long refreshAfterNanos;
+    private final long expireAfterNanos;
+    private final Map<UUID, Entry> entries;
+    private final Set<UUID> refreshing = ConcurrentHashMap.newKeySet();
+
+    public UserDirectoryCache(AsyncUserServiceClient userServiceClient,
+                              @Value("${organization.cache.user-directory.enabled:true}") boolean enabled,
+                              @Value("${organization.cache.user-directory.max-entries:50000}") int maxEntries,
+                              @Value("${organization.cache.user-directory.refresh-after-seconds:300}") long refreshAfterSeconds,
+                              @Value("${organization.cache.user-directory.expire-after-seconds:3600}") long expireAfterSeconds) {
+        this.userServiceClient = userServiceClient;
+        this.enabled = enabled;
+        this.refreshAfterNanos = TimeUnit.SECONDS.toNanos(refreshAfterSeconds);
+        this.expireAfterNanos = TimeUnit.SECONDS.toNanos(expireAfterSeconds);
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<UUID, Entry> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /**
+     * Users for the given ids, in the same order; ids user-service does not know are left out
+     */
+    public List<UserDTO> getUsers(Collection<UUID> userIds) {
+        if (userIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+        if (!enabled) {
+            return AsyncServiceClient.await(userServiceClient.getUsersByIds(new ArrayList<>(userIds)));
+        }
+
+        long now = System.nanoTime();
+        Map<UUID, UserDTO> found = new HashMap<>(userIds.size() * 2);
+        List<UUID> missing = new ArrayList<>();
+        List<UUID> stale = new ArrayList<>();
+        synchronized (entries) {
+            for (UUID id : userIds) {
+                Entry entry = entries.get(id);
+                long age = entry != null ? now - entry.loadedAt() : Long.MAX_VALUE;
+                if (age > expireAfterNanos) {
+                    missing.add(id);
+                } else {
+                    found.put(id, entry.user());
+                    if (age > refreshAfterNanos) {
+                        stale.add(id);
+                    }
+                }
+            }
+        }
+
+        if (!stale.isEmpty()) {
+            refreshInBackground(stale);
+        }
+        if (!missing.isEmpty()) {
+            List<UserDTO> loaded = AsyncServiceClient.await(userServiceClient.getUsersByIds(missing));
+            store(loaded, now);
+            for (UserDTO user : loaded) {
+                found.put(user.getId(), user);
+            }
+        }
+
+        List<UserDTO> users = new ArrayList<>(found.size());
+        for (UUID id : userIds) {
+            UserDTO user = found.get(id);
+            if (user != null) {
+                users.add(user);
+            }
+        }
+        return users;
+    }
+
+    private void refreshInBackground(List<UUID> stale) {
+        List<UUID> batch = new ArrayList<>(stale.size());
+        for (UUID id : stale) {
+            if (refreshing.add(id)) {
+                batch.add(id);
+            }
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+        long startedAt = System.nanoTime();
+        userServiceClient.getUsersByIds(batch).whenComplete((users, failure) -> {
+            try {
+                if (failure != null) {
+                    // Entries keep being served until they expire; the next read retries
+                    log.debug("Refreshing {} cached users failed: {}", batch.size(), failure.getMessage());
+                    return;
+                }
+                store(users, startedAt);
+                Set<UUID> returned = new HashSet<>();
+                users.forEach(user -> returned.add(user.getId()));
+                synchronized (entries) {
+                    // No longer known to user-service
+                    batch.stream().filter(id -> !returned.contains(id)).forEach(entries::remove);
+                }
+            } finally {
+                batch.forEach(refreshing::remove);
+            }
+        });
+    }
+
+    private void store(List<UserDTO> users, long loadedAt) {
+        synchronized (entries) {
+            for (UserDTO user : users) {
+                if (user.getId() != null) {
+                    entries.put(user.getId(), new Entry(user, loadedAt));
+                }
+            }
+        }
+    }
+
+    private record Entry(UserDTO user, long loadedAt) {
+    }
+}
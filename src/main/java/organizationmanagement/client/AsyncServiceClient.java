@@ -0,0 +1,210 @@
+package organizationmanagement.client;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import organizationmanagement.config.AsyncClientProperties;
+import organizationmanagement.config.FeignConfig;
+import organizationmanagement.exception.ServiceUnavailableException;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Base of the non-blocking downstream clients: requests go out on the JDK {@link HttpClient} so the
+ * caller can keep working (typically its own database lookup) while the remote call is in flight.
+ * <p>
+ * Every call keeps a rolling latency histogram. Its timeout follows the observed p99 between the configured
+ * bounds, and idempotent calls can be hedged: when the first attempt is slower than the hedge quantile a
+ * second, identical request is sent and whichever answers first wins. A budget caps hedges to a fraction
+ * of primary requests, so a slow downstream never receives double load.
+ * <p>
+ * Requests and responses use the same wire format as the Feign clients, see {@link DownstreamCodec}.
+ */
+public abstract class AsyncServiceClient {
+    private static final TypeReference<Boolean> BOOLEAN = new TypeReference<>() {
+    };
+
+    private final String serviceName;
+    private final HttpClient httpClient;
+    private final String baseUrl;
+    private final DownstreamCodec codec;
+    private final AsyncClientProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, CallStats> stats = new ConcurrentHashMap<>();
+
+    protected AsyncServiceClient(String serviceName, HttpClient httpClient, String baseUrl, DownstreamCodec codec,
+                                 AsyncClientProperties properties, MeterRegistry meterRegistry) {
+        this.serviceName = serviceName;
+        this.httpClient = httpClient;
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+        this.codec = codec;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Wait for a call started earlier; failures surface as the exception the call completed with
+     */
+    public static <T> T await(CompletableFuture<T> call) {
+        try {
+            return call.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new ServiceUnavailableException("Downstream call failed: " + e.getMessage());
+        }
+    }
+
+    /**
+     * GET an exists endpoint: true/false from the body, false on 404, {@link ServiceUnavailableException} otherwise
+     */
+    protected CompletableFuture<Boolean> exists(String method, String path) {
+        return send(method, path, false, response -> {
+            if (response.statusCode() == 404) {
+                return false;
+            }
+            return Boolean.TRUE.equals(successBody(response, BOOLEAN));
+        });
+    }
+
+    /**
+     * GET with hedging allowed; only for idempotent reads
+     */
+    protected <T> CompletableFuture<T> hedgedGet(String method, String pathAndQuery, Function<HttpResponse<byte[]>, T> handler) {
+        return send(method, pathAndQuery, properties.getHedging().isEnabled(), handler);
+    }
+
+    /**
+     * Body of a 2xx response, decoded in the format the downstream chose
+     */
+    protected <T> T successBody(HttpResponse<byte[]> response, TypeReference<T> type) {
+        if (response.statusCode() / 100 != 2) {
+            throw new ServiceUnavailableException(serviceName + " unavailable: HTTP " + response.statusCode());
+        }
+        try {
+            return codec.read(response.body(), response.headers().firstValue("Content-Type").orElse(null), type);
+        } catch (IOException e) {
+            throw new ServiceUnavailableException("Unreadable " + serviceName + " response: " + e.getMessage());
+        }
+    }
+
+    private <T> CompletableFuture<T> send(String method, String pathAndQuery, boolean hedge,
+                                          Function<HttpResponse<byte[]>, T> handler) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + pathAndQuery))
+                .timeout(Duration.ofMillis(properties.getTimeoutMs()))
+                .header("Accept", codec.accept())
+                .GET();
+        // Read here, on the request thread; a hedge reuses the same immutable request from a timer thread
+        FeignConfig.forwardedHeaders().forEach(builder::header);
+        HttpRequest request = builder.build();
+
+        CallStats call = stats.computeIfAbsent(method, CallStats::new);
+        call.primaryStarted();
+        CompletableFuture<T> result = new CompletableFuture<>();
+        AtomicInteger inFlight = new AtomicInteger();
+        attempt(call, request, handler, result, inFlight, false);
+
+        long hedgeDelay = hedge ? call.histogram.percentileNanos(properties.getHedging().getQuantile(), properties.getMinSamples()) : -1;
+        if (hedgeDelay > 0) {
+            CompletableFuture.delayedExecutor(hedgeDelay, TimeUnit.NANOSECONDS).execute(() -> {
+                if (result.isDone()) {
+                    return;
+                }
+                if (call.tryHedge()) {
+                    call.count("fired");
+                    attempt(call, request, handler, result, inFlight, true);
+                } else {
+                    call.count("budget_exhausted");
+                }
+            });
+        }
+        return result.orTimeout(call.timeoutNanos(), TimeUnit.NANOSECONDS)
+                .exceptionally(failure -> {
+                    Throwable cause = failure instanceof CompletionException && failure.getCause() != null ? failure.getCause() : failure;
+                    if (cause instanceof TimeoutException) {
+                        throw new ServiceUnavailableException(serviceName + " did not answer " + method + " in time");
+                    }
+                    throw cause instanceof RuntimeException runtimeException ? runtimeException : new CompletionException(cause);
+                });
+    }
+
+    private <T> void attempt(CallStats call, HttpRequest request, Function<HttpResponse<byte[]>, T> handler,
+                             CompletableFuture<T> result, AtomicInteger inFlight, boolean hedge) {
+        inFlight.incrementAndGet();
+        long start = System.nanoTime();
+        httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray()).whenComplete((response, failure) -> {
+            if (failure == null) {
+                call.histogram.record(System.nanoTime() - start);
+                try {
+                    if (result.complete(handler.apply(response)) && hedge) {
+                        call.count("won");
+                    }
+                } catch (RuntimeException e) {
+                    if (inFlight.decrementAndGet() == 0) {
+                        result.completeExceptionally(e);
+                    }
+                }
+            } else if (inFlight.decrementAndGet() == 0) {
+                // The other attempt, if any, already failed too
+                Throwable cause = failure instanceof CompletionException && failure.getCause() != null ? failure.getCause() : failure;
+                result.completeExceptionally(new ServiceUnavailableException(serviceName + " unavailable: " + cause.getMessage()));
+            }
+        });
+    }
+
+    private final class CallStats {
+        private final String method;
+        private final LatencyHistogram histogram = new LatencyHistogram(TimeUnit.SECONDS.toNanos(properties.getWindowSeconds()));
+        // Hedge tokens: every primary request earns budgetRatio of a token, a hedge spends one
+        private double hedgeTokens;
+
+        private CallStats(String method) {
+            this.method = method;
+        }
+
+        private synchronized void primaryStarted() {
+            hedgeTokens = Math.min(10, hedgeTokens + properties.getHedging().getBudgetRatio());
+        }
+
+        private synchronized boolean tryHedge() {
+            if (hedgeTokens < 1) {
+                return false;
+            }
+            hedgeTokens -= 1;
+            return true;
+        }
+
+        private long timeoutNanos() {
+            long max = TimeUnit.MILLISECONDS.toNanos(properties.getTimeoutMs());
+            long p99 = histogram.percentileNanos(0.99, properties.getMinSamples());
+            if (p99 < 0) {
+                return max;
+            }
+            long min = TimeUnit.MILLISECONDS.toNanos(properties.getMinTimeoutMs());
+            return Math.max(min, Math.min(max, (long) (p99 * properties.getTimeoutP99Multiplier())));
+        }
+
+        private void count(String outcome) {
+            Counter.builder("organization.client.hedges")
+                    .tag("service", serviceName)
+                    .tag("method", method)
+                    .tag("outcome", outcome)
+                    .register(meterRegistry)
+                    .increment();
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package organizationmanagement.client;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import organizationmanagement.config.AsyncClientProperties;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.net.http.HttpClient;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Non-blocking counterpart of {@link SurveyServiceClient}
+ */
+@Component
+public class AsyncSurveyServiceClient extends AsyncServiceClient {
+
+    public AsyncSurveyServiceClient(HttpClient downstreamHttpClient,
+                                    @Value("${survey-service.url}") String baseUrl,
+                                    DownstreamCodec codec,
+                                    AsyncClientProperties properties,
+                                    MeterRegistry meterRegistry) {
+        super("survey-service", downstreamHttpClient, baseUrl, codec, properties, meterRegistry);
+    }
+
+    public CompletableFuture<Boolean> surveyExists(UUID surveyId) {
+        return exists("surveyExists", "/api/surveys/" + surveyId + "/exists");
+    }
+}
@@ -0,0 +1,47 @@
+package organizationmanagement.client;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import io.micrometer.core.instrument.MeterRegistry;
+import organizationmanagement.config.AsyncClientProperties;
+import organizationmanagement.dto.UserDTO;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.net.http.HttpClient;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+/**
+ * Client of user-service: existence checks for assignments and the bulk lookup behind user hydration
+ */
+@Component
+public class AsyncUserServiceClient extends AsyncServiceClient {
+    private static final TypeReference<List<UserDTO>> USER_LIST = new TypeReference<>() {
+    };
+
+    public AsyncUserServiceClient(HttpClient downstreamHttpClient,
+                                  @Value("${user-service.url}") String baseUrl,
+                                  DownstreamCodec codec,
+                                  AsyncClientProperties properties,
+                                  MeterRegistry meterRegistry) {
+        super("user-service", downstreamHttpClient, baseUrl, codec, properties, meterRegistry);
+    }
+
+    public CompletableFuture<Boolean> userExists(UUID userId) {
+        return exists("userExists", "/api/users/" + userId + "/exists");
+    }
+
+    /**
+     * Hedged: user hydration sits on the critical path of the team and department user listings
+     */
+    public CompletableFuture<List<UserDTO>> getUsersByIds(List<UUID> userIds) {
+        // One ids parameter per id, as user-service binds a repeated @RequestParam
+        String query = userIds.stream().map(id -> "ids=" + id).collect(Collectors.joining("&"));
+        return hedgedGet("getUsersByIds", "/api/users/bulk?" + query, response -> {
+            List<UserDTO> users = successBody(response, USER_LIST);
+            return users != null ? users : List.of();
+        });
+    }
+}
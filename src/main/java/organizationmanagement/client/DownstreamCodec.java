@@ -0,0 +1,66 @@
+package organizationmanagement.client;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import organizationmanagement.config.BinaryFormatConfig;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+
+/**
+ * Wire format of the non-blocking clients, the same as the Feign clients use: Accept prefers
+ * organization.feign.binary-format with JSON as fallback, and bodies are decoded by their Content-Type
+ * with the mappers of the registered converters.
+ */
+@Component
+public class DownstreamCodec {
+    private static final MediaType SMILE = MediaType.parseMediaType("application/x-jackson-smile");
+    private static final MediaType CBOR = MediaType.parseMediaType("application/cbor");
+
+    private final String accept;
+    private final ObjectMapper jsonMapper;
+    private final ObjectMapper smileMapper;
+    private final ObjectMapper cborMapper;
+
+    public DownstreamCodec(ObjectMapper objectMapper,
+                           MappingJackson2SmileHttpMessageConverter smileConverter,
+                           MappingJackson2CborHttpMessageConverter cborConverter,
+                           @Value("${organization.feign.binary-format:none}") String format) {
+        String binaryAccept = BinaryFormatConfig.acceptHeader(format);
+        this.accept = binaryAccept != null ? binaryAccept : MediaType.APPLICATION_JSON_VALUE;
+        this.jsonMapper = objectMapper;
+        this.smileMapper = smileConverter.getObjectMapper();
+        this.cborMapper = cborConverter.getObjectMapper();
+    }
+
+    public String accept() {
+        return accept;
+    }
+
+    public <T> T read(byte[] body, String contentType, TypeReference<T> type) throws IOException {
+        return mapperFor(contentType).readValue(body, type);
+    }
+
+    private ObjectMapper mapperFor(String contentType) {
+        if (contentType == null) {
+            return jsonMapper;
+        }
+        try {
+            MediaType mediaType = MediaType.parseMediaType(contentType);
+            if (SMILE.isCompatibleWith(mediaType)) {
+                return smileMapper;
+            }
+            if (CBOR.isCompatibleWith(mediaType)) {
+                return cborMapper;
+            }
+        } catch (InvalidMediaTypeException e) {
+            // Treated as JSON, the format every peer speaks
+        }
+        return jsonMapper;
+    }
+}
@@ -0,0 +1,78 @@
+package organizationmanagement.client;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Rolling latency histogram over the current and the previous time window.
+ * Buckets grow by a factor of 2^(1/4) from 1 ms, so percentiles are accurate to about 19% up to ~3.5 min.
+ */
+final class LatencyHistogram {
+    private static final int BUCKETS = 72;
+
+    private final long windowNanos;
+    private final AtomicLongArray[] windows = {new AtomicLongArray(BUCKETS), new AtomicLongArray(BUCKETS)};
+    private final long[] epochs = {-1, -1};
+
+    LatencyHistogram(long windowNanos) {
+        this.windowNanos = windowNanos;
+    }
+
+    void record(long nanos) {
+        window(System.nanoTime() / windowNanos).incrementAndGet(bucket(nanos));
+    }
+
+    /**
+     * Upper bound of the bucket holding the given quantile, or -1 while fewer than minSamples were recorded
+     */
+    long percentileNanos(double quantile, long minSamples) {
+        long epoch = System.nanoTime() / windowNanos;
+        long[] counts = new long[BUCKETS];
+        long total = 0;
+        synchronized (this) {
+            for (int slot = 0; slot < 2; slot++) {
+                if (epochs[slot] == epoch || epochs[slot] == epoch - 1) {
+                    for (int i = 0; i < BUCKETS; i++) {
+                        long count = windows[slot].get(i);
+                        counts[i] += count;
+                        total += count;
+                    }
+                }
+            }
+        }
+        if (total < Math.max(1, minSamples)) {
+            return -1;
+        }
+        long rank = (long) Math.ceil(quantile * total);
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return upperBoundNanos(i);
+            }
+        }
+        return upperBoundNanos(BUCKETS - 1);
+    }
+
+    private synchronized AtomicLongArray window(long epoch) {
+        int slot = (int) (epoch & 1);
+        if (epochs[slot] != epoch) {
+            for (int i = 0; i < BUCKETS; i++) {
+                windows[slot].set(i, 0);
+            }
+            epochs[slot] = epoch;
+        }
+        return windows[slot];
+    }
+
+    private static int bucket(long nanos) {
+        double millis = nanos / 1_000_000d;
+        if (millis <= 1) {
+            return 0;
+        }
+        return (int) Math.min(BUCKETS - 1, Math.ceil(4 * Math.log(millis) / Math.log(2)));
+    }
+
+    private static long upperBoundNanos(int bucket) {
+        return (long) (Math.pow(2, bucket / 4d) * 1_000_000d);
+    }
+}
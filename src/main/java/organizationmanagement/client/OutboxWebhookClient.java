@@ -0,0 +1,21 @@
+package organizationmanagement.client;
+
+import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+
+import java.util.List;
+
+import organizationmanagement.dto.OutboxMessageDTO;
+
+@FeignClient(
+    name = "outbox-webhook",
+    url = "${organization.outbox.webhook.url}"
+)
+public interface OutboxWebhookClient {
+
+    @PostMapping
+    ResponseEntity<Void> deliver(@RequestBody List<OutboxMessageDTO> messages);
+
+}
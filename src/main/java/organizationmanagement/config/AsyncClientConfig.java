@@ -0,0 +1,25 @@
+package organizationmanagement.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+
+@Configuration
+@EnableConfigurationProperties(AsyncClientProperties.class)
+public class AsyncClientConfig {
+
+    /**
+     * Shared JDK client behind the non-blocking downstream clients; HTTP/1.1 because the services are
+     * reached over plain http, where an HTTP/2 upgrade attempt only adds a round trip
+     */
+    @Bean
+    public HttpClient downstreamHttpClient(AsyncClientProperties properties) {
+        return HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofMillis(properties.getConnectTimeoutMs()))
+                .build();
+    }
+}
@@ -0,0 +1,47 @@
+package organizationmanagement.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Timeouts and hedging of the non-blocking downstream clients. Timeouts adapt to the observed latency of
+ * each call between the minimum and maximum; hedges fire once a call is slower than the hedge quantile.
+ */
+@Data
+@ConfigurationProperties(prefix = "organization.async-client")
+public class AsyncClientProperties {
+
+    private long connectTimeoutMs = 2000;
+
+    /**
+     * Upper bound for a call, and the timeout used until enough latencies have been observed
+     */
+    private long timeoutMs = 3000;
+
+    private long minTimeoutMs = 250;
+
+    /**
+     * Adaptive timeout as a multiple of the observed p99
+     */
+    private double timeoutP99Multiplier = 3.0;
+
+    /**
+     * Latencies needed in the rolling window before timeouts adapt and hedges fire
+     */
+    private long minSamples = 100;
+
+    private long windowSeconds = 60;
+
+    private Hedging hedging = new Hedging();
+
+    @Data
+    public static class Hedging {
+        private boolean enabled = true;
+        private double quantile = 0.95;
+
+        /**
+         * Hedges allowed per primary request, e.g. 0.05 caps the extra load at 5%
+         */
+        private double budgetRatio = 0.05;
+    }
+}
@@ -0,0 +1,60 @@
+package organizationmanagement.config;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import feign.RequestInterceptor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * Smile and CBOR next to JSON. Controllers answer in a binary format when the caller asks for it with
+ * {@code Accept: application/x-jackson-smile} or {@code application/cbor}; JSON stays the default.
+ * The converters are registered as beans, so Boot adds them to MVC and the Feign encoder/decoder alike,
+ * and they share the application's Jackson settings.
+ */
+@Configuration
+public class BinaryFormatConfig {
+
+    private static final String SMILE = "application/x-jackson-smile";
+    private static final String CBOR = "application/cbor";
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.createXmlMapper(false).factory(new SmileFactory()).build());
+    }
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.createXmlMapper(false).factory(new CBORFactory()).build());
+    }
+
+    /**
+     * Outgoing Feign calls prefer the configured binary format; JSON remains acceptable at a lower weight,
+     * so services that don't speak it keep answering as before
+     */
+    @Bean
+    public RequestInterceptor binaryFormatAcceptInterceptor(@Value("${organization.feign.binary-format:none}") String format) {
+        String accept = acceptHeader(format);
+        return requestTemplate -> {
+            if (accept != null && !requestTemplate.headers().containsKey(HttpHeaders.ACCEPT)) {
+                requestTemplate.header(HttpHeaders.ACCEPT, accept);
+            }
+        };
+    }
+
+    /**
+     * Accept header of outgoing calls for the organization.feign.binary-format setting; null for plain JSON
+     */
+    public static String acceptHeader(String format) {
+        return switch (format.toLowerCase()) {
+            case "smile" -> SMILE + ", application/json;q=0.9";
+            case "cbor" -> CBOR + ", application/json;q=0.9";
+            default -> null;
+        };
+    }
+}
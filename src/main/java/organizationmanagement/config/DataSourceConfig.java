@@ -0,0 +1,98 @@
+package organizationmanagement.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * One Hikari pool per workload (interactive reads, writes, bulk/admin) behind a single routing DataSource,
+ * so root-admin full scans cannot starve latency-sensitive lookups.
+ */
+@Configuration
+@EnableConfigurationProperties(DataSourcePoolProperties.class)
+public class DataSourceConfig {
+
+    @Bean
+    public HikariDataSource readDataSource(DataSourceProperties dataSourceProperties,
+                                           DataSourcePoolProperties poolProperties,
+                                           ObjectProvider<MeterRegistry> meterRegistry) {
+        return createPool("read", poolProperties.getRead(), dataSourceProperties, poolProperties, meterRegistry);
+    }
+
+    @Bean
+    public HikariDataSource writeDataSource(DataSourceProperties dataSourceProperties,
+                                            DataSourcePoolProperties poolProperties,
+                                            ObjectProvider<MeterRegistry> meterRegistry) {
+        return createPool("write", poolProperties.getWrite(), dataSourceProperties, poolProperties, meterRegistry);
+    }
+
+    @Bean
+    public HikariDataSource adminDataSource(DataSourceProperties dataSourceProperties,
+                                            DataSourcePoolProperties poolProperties,
+                                            ObjectProvider<MeterRegistry> meterRegistry) {
+        return createPool("admin", poolProperties.getAdmin(), dataSourceProperties, poolProperties, meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("readDataSource") DataSource readDataSource,
+                                 @Qualifier("writeDataSource") DataSource writeDataSource,
+                                 @Qualifier("adminDataSource") DataSource adminDataSource) {
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(DataSourceWorkload.READ, readDataSource);
+        targets.put(DataSourceWorkload.WRITE, writeDataSource);
+        targets.put(DataSourceWorkload.ADMIN, adminDataSource);
+
+        WorkloadRoutingDataSource routingDataSource = new WorkloadRoutingDataSource();
+        routingDataSource.setTargetDataSources(targets);
+        routingDataSource.setDefaultTargetDataSource(writeDataSource);
+        routingDataSource.afterPropertiesSet();
+
+        // Defaults are given explicitly so the proxy never opens a connection just to discover them
+        LazyConnectionDataSourceProxy proxy = new LazyConnectionDataSourceProxy();
+        proxy.setTargetDataSource(routingDataSource);
+        proxy.setDefaultAutoCommit(true);
+        proxy.setDefaultTransactionIsolation(Connection.TRANSACTION_READ_COMMITTED);
+        proxy.afterPropertiesSet();
+        return proxy;
+    }
+
+    private HikariDataSource createPool(String name,
+                                        DataSourcePoolProperties.Pool pool,
+                                        DataSourceProperties dataSourceProperties,
+                                        DataSourcePoolProperties poolProperties,
+                                        ObjectProvider<MeterRegistry> meterRegistry) {
+        HikariDataSource dataSource = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName("organization-" + name);
+        dataSource.setMaximumPoolSize(pool.getMaximumPoolSize());
+        dataSource.setMinimumIdle(pool.getMinimumIdle());
+        dataSource.setConnectionTimeout(pool.getConnectionTimeout());
+        dataSource.setIdleTimeout(pool.getIdleTimeout());
+        dataSource.setMaxLifetime(pool.getMaxLifetime());
+        if (poolProperties.getSchema() != null) {
+            dataSource.setSchema(poolProperties.getSchema());
+        }
+        poolProperties.getDriverProperties().forEach(dataSource::addDataSourceProperty);
+
+        // Exposes hikaricp.connections.active/idle/pending/timeout per pool under its pool name
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        if (registry != null) {
+            dataSource.setMetricRegistry(registry);
+        }
+        return dataSource;
+    }
+}
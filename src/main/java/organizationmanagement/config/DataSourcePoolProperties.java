@@ -0,0 +1,44 @@
+package organizationmanagement.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Data
+@ConfigurationProperties(prefix = "organization.datasource")
+public class DataSourcePoolProperties {
+
+    /**
+     * Schema set as search_path on every pooled connection, so native queries resolve unqualified tables
+     */
+    private String schema;
+
+    /**
+     * Extra PostgreSQL driver properties (statement caching, batching) applied to every pool
+     */
+    private Map<String, String> driverProperties = new LinkedHashMap<>();
+
+    private Pool read = new Pool(10, 2, 2000);
+    private Pool write = new Pool(6, 2, 5000);
+    private Pool admin = new Pool(2, 0, 30000);
+
+    @Data
+    public static class Pool {
+        private int maximumPoolSize;
+        private int minimumIdle;
+        private long connectionTimeout;
+        private long idleTimeout = 600000;
+        private long maxLifetime = 1800000;
+
+        public Pool() {
+        }
+
+        public Pool(int maximumPoolSize, int minimumIdle, long connectionTimeout) {
+            this.maximumPoolSize = maximumPoolSize;
+            this.minimumIdle = minimumIdle;
+            this.connectionTimeout = connectionTimeout;
+        }
+    }
+}
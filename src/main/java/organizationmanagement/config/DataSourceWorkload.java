@@ -0,0 +1,36 @@
+package organizationmanagement.config;
+
+import java.util.function.Supplier;
+
+/**
+ * Workload classes that are served by separately sized connection pools.
+ * READ and WRITE are derived from the current transaction, ADMIN must be requested explicitly.
+ */
+public enum DataSourceWorkload {
+    READ,
+    WRITE,
+    ADMIN;
+
+    private static final ThreadLocal<DataSourceWorkload> CURRENT = new ThreadLocal<>();
+
+    /**
+     * Run the given action with every connection it acquires taken from the pool of the given workload
+     */
+    public static <T> T callAs(DataSourceWorkload workload, Supplier<T> action) {
+        DataSourceWorkload previous = CURRENT.get();
+        CURRENT.set(workload);
+        try {
+            return action.get();
+        } finally {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+
+    static DataSourceWorkload current() {
+        return CURRENT.get();
+    }
+}
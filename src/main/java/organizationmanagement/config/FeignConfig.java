@@ -8,58 +8,45 @@ import org.springframework.web.context.request.ServletRequestAttributes;
 
 import jakarta.servlet.http.HttpServletRequest;
 import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 @Configuration
 public class FeignConfig {
 
     @Bean
     public RequestInterceptor requestInterceptor() {
-        return requestTemplate -> {
-            ServletRequestAttributes attributes = (ServletRequestAttributes) RequestContextHolder.getRequestAttributes();
-            if (attributes != null) {
-                HttpServletRequest request = attributes.getRequest();
-                
-
-                Enumeration<String> headerNames = request.getHeaderNames();
-                while (headerNames.hasMoreElements()) {
-                    String headerName = headerNames.nextElement();
-                    String headerValue = request.getHeader(headerName);
-                    
+        return requestTemplate -> forwardedHeaders().forEach(requestTemplate::header);
+    }
 
-                    if (headerName.startsWith("X-") || 
-                        headerName.equals("Authorization") || 
-                        headerName.equals("Cookie")) {
-                        requestTemplate.header(headerName, headerValue);
-                    }
-                }
-                
+    /**
+     * Gateway context of the current request to pass on to downstream services; empty outside a request.
+     * Shared by the Feign clients and the asynchronous clients, which must call this on the request thread.
+     */
+    public static Map<String, String> forwardedHeaders() {
+        Map<String, String> headers = new LinkedHashMap<>();
+        ServletRequestAttributes attributes = (ServletRequestAttributes) RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return headers;
+        }
+        HttpServletRequest request = attributes.getRequest();
+
+        Enumeration<String> headerNames = request.getHeaderNames();
+        while (headerNames.hasMoreElements()) {
+            String headerName = headerNames.nextElement();
+            if (headerName.startsWith("X-") ||
+                headerName.equals("Authorization") ||
+                headerName.equals("Cookie")) {
+                headers.put(headerName, request.getHeader(headerName));
+            }
+        }
 
-                String username = request.getHeader("X-Username");
-                String userId = request.getHeader("X-User-Id");
-                String organizationId = request.getHeader("X-Organization-Id");
-                String authorities = request.getHeader("X-Authorities");
-                String userAuthorities = request.getHeader("X-User-Authorities");
-                
-                if (username != null) {
-                    requestTemplate.header("X-Username", username);
-                    requestTemplate.header("X-User-Name", username);
-                }
-                if (userId != null) {
-                    requestTemplate.header("X-User-Id", userId);
-                }
-                if (organizationId != null) {
-                    requestTemplate.header("X-Organization-Id", organizationId);
-                }
-                if (authorities != null) {
-                    requestTemplate.header("X-Authorities", authorities);
-                }
-                if (userAuthorities != null) {
-                    requestTemplate.header("X-User-Authorities", userAuthorities);
-                }
-                
+        String username = request.getHeader("X-Username");
+        if (username != null) {
+            headers.put("X-User-Name", username);
+        }
 
-                requestTemplate.header("X-Authenticated", "true");
-            }
-        };
+        headers.put("X-Authenticated", "true");
+        return headers;
     }
-} 
\ No newline at end of file
+}
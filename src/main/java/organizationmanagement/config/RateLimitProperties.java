@@ -0,0 +1,42 @@
+package organizationmanagement.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Token-bucket limits per route class. Public routes are limited per caller IP, everything else per
+ * organization (or per user for root admins acting outside a tenant).
+ */
+@Data
+@ConfigurationProperties(prefix = "organization.rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * Distinct callers tracked per replica; beyond this, new callers of a route class share one bucket
+     */
+    private int maxTrackedCallers = 100000;
+
+    private Limit publicRoutes = new Limit(40, 20);
+    private Limit tenant = new Limit(200, 100);
+    private Limit bulk = new Limit(5, 0.2);
+    private Limit admin = new Limit(400, 200);
+
+    @Data
+    public static class Limit {
+        /**
+         * Burst size: requests allowed back to back after an idle period
+         */
+        private double capacity;
+        private double refillPerSecond;
+
+        public Limit() {
+        }
+
+        public Limit(double capacity, double refillPerSecond) {
+            this.capacity = capacity;
+            this.refillPerSecond = refillPerSecond;
+        }
+    }
+}
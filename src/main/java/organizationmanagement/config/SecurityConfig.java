@@ -1,6 +1,7 @@
 package organizationmanagement.config;
 
 import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
@@ -16,10 +17,13 @@ import org.springframework.http.HttpMethod;
 
 
 
+import organizationmanagement.filter.IdempotencyFilter;
 import organizationmanagement.security.GatewayAuthenticationFilter;
+import organizationmanagement.security.RateLimitFilter;
 
 @Configuration
 @EnableWebSecurity
+@EnableConfigurationProperties(RateLimitProperties.class)
 @EnableMethodSecurity(
         prePostEnabled = true,
         securedEnabled = true,
@@ -28,6 +32,8 @@ import organizationmanagement.security.GatewayAuthenticationFilter;
 public class SecurityConfig {
 
     private final GatewayAuthenticationFilter gatewayAuthenticationFilter;
+    private final RateLimitFilter rateLimitFilter;
+    private final IdempotencyFilter idempotencyFilter;
 
 
     private static final String[] PUBLIC_ENDPOINTS = {
@@ -42,8 +48,11 @@ public class SecurityConfig {
             "/api/teams/user/**"
     };
 
-    public SecurityConfig(GatewayAuthenticationFilter gatewayAuthenticationFilter) {
+    public SecurityConfig(GatewayAuthenticationFilter gatewayAuthenticationFilter, RateLimitFilter rateLimitFilter,
+                          IdempotencyFilter idempotencyFilter) {
         this.gatewayAuthenticationFilter = gatewayAuthenticationFilter;
+        this.rateLimitFilter = rateLimitFilter;
+        this.idempotencyFilter = idempotencyFilter;
     }
 
     @Bean
@@ -56,6 +65,7 @@ public class SecurityConfig {
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers(PUBLIC_ENDPOINTS).permitAll()
                         .requestMatchers(HttpMethod.POST, "/api/organizations/register").permitAll()
+                        .requestMatchers(HttpMethod.POST, "/api/organizations/memberships/lookup").permitAll()
                         .requestMatchers(HttpMethod.GET, "/api/organizations/*/exists").permitAll()
                         .requestMatchers(HttpMethod.GET, "/api/departments/*/exists").permitAll()
                         .requestMatchers(HttpMethod.GET, "/api/teams/*/exists").permitAll()
@@ -76,7 +86,9 @@ public class SecurityConfig {
                 )
 
 
-                .addFilterBefore(gatewayAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
+                .addFilterBefore(gatewayAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+                .addFilterAfter(rateLimitFilter, GatewayAuthenticationFilter.class)
+                .addFilterAfter(idempotencyFilter, RateLimitFilter.class);
 
         return http.build();
     }
@@ -0,0 +1,22 @@
+package organizationmanagement.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Routes each physical connection to the pool of the current workload.
+ * Must sit behind a LazyConnectionDataSourceProxy so the read-only flag is known when the connection is fetched.
+ */
+public class WorkloadRoutingDataSource extends AbstractRoutingDataSource {
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        DataSourceWorkload requested = DataSourceWorkload.current();
+        if (requested != null) {
+            return requested;
+        }
+        return TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                ? DataSourceWorkload.READ
+                : DataSourceWorkload.WRITE;
+    }
+}
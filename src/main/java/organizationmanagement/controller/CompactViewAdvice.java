@@ -0,0 +1,98 @@
+package organizationmanagement.controller;
+
+import jakarta.servlet.http.HttpServletRequest;
+import organizationmanagement.dto.DepartmentDTO;
+import organizationmanagement.dto.OrganizationDTO;
+import organizationmanagement.dto.TeamDTO;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * {@code ?view=compact} on any read returning teams or departments: the nested department and organization
+ * are reduced to id-only references instead of being repeated in full on every element.
+ * {@code &expand=department,organization} keeps the named references complete.
+ */
+@RestControllerAdvice
+public class CompactViewAdvice implements ResponseBodyAdvice<Object> {
+    private static final String EXPAND_DEPARTMENT = "department";
+    private static final String EXPAND_ORGANIZATION = "organization";
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        if (body == null || !(request instanceof ServletServerHttpRequest servletRequest)) {
+            return body;
+        }
+        HttpServletRequest httpRequest = servletRequest.getServletRequest();
+        if (!"compact".equalsIgnoreCase(httpRequest.getParameter("view"))) {
+            return body;
+        }
+        String expandParam = httpRequest.getParameter("expand");
+        Set<String> expand = expandParam == null ? Set.of() : Arrays.stream(expandParam.split(","))
+                .map(String::trim)
+                .map(String::toLowerCase)
+                .collect(Collectors.toSet());
+        compact(body, expand);
+        return body;
+    }
+
+    private void compact(Object body, Set<String> expand) {
+        if (body instanceof Collection<?> items) {
+            items.forEach(item -> compact(item, expand));
+        } else if (body instanceof OrganizationController.ChildrenResponse children) {
+            compact(children.getDepartments(), expand);
+            compact(children.getTeams(), expand);
+        } else if (body instanceof TeamDTO team) {
+            // Replaced rather than modified: department instances may be shared with other parts of the response
+            if (team.getDepartment() != null) {
+                team.setDepartment(expand.contains(EXPAND_DEPARTMENT)
+                        ? withOrganization(team.getDepartment(), expand)
+                        : departmentReference(team.getDepartment()));
+            }
+        } else if (body instanceof DepartmentDTO department) {
+            if (department.getOrganization() != null && !expand.contains(EXPAND_ORGANIZATION)) {
+                department.setOrganization(organizationReference(department.getOrganization()));
+            }
+        }
+    }
+
+    private DepartmentDTO withOrganization(DepartmentDTO department, Set<String> expand) {
+        DepartmentDTO copy = new DepartmentDTO();
+        copy.setId(department.getId());
+        copy.setName(department.getName());
+        OrganizationDTO organization = department.getOrganization();
+        if (organization != null) {
+            copy.setOrganization(expand.contains(EXPAND_ORGANIZATION) ? organization : organizationReference(organization));
+        }
+        return copy;
+    }
+
+    private static DepartmentDTO departmentReference(DepartmentDTO department) {
+        DepartmentDTO reference = new DepartmentDTO();
+        reference.setId(department.getId());
+        return reference;
+    }
+
+    private static OrganizationDTO organizationReference(OrganizationDTO organization) {
+        OrganizationDTO reference = new OrganizationDTO();
+        reference.setId(organization.getId());
+        return reference;
+    }
+}
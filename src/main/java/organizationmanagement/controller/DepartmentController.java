@@ -2,6 +2,7 @@ package organizationmanagement.controller;
 
 import organizationmanagement.dto.DepartmentCreateDTO;
 import organizationmanagement.dto.DepartmentDTO;
+import organizationmanagement.dto.NameSearchResultDTO;
 import organizationmanagement.dto.OrganizationDTO;
 import organizationmanagement.dto.UserDTO;
 import organizationmanagement.exception.BadRequestException;
@@ -10,13 +11,17 @@ import organizationmanagement.model.Department;
 import organizationmanagement.model.Organization;
 import organizationmanagement.service.DepartmentService;
 import organizationmanagement.service.OrganizationService;
+import organizationmanagement.service.UnitSearchService;
+import organizationmanagement.util.EntityTagUtil;
 import organizationmanagement.util.OrganizationContextUtil;
 import organizationmanagement.mapper.DepartmentMapper;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 import java.util.UUID;
@@ -30,6 +35,7 @@ public class DepartmentController {
     private final DepartmentService service;
     private final OrganizationService organizationService;
     private final OrganizationContextUtil organizationContextUtil;
+    private final UnitSearchService unitSearchService;
 
     @GetMapping
     @PreAuthorize("hasAnyAuthority('DEPARTMENT_READ','SYS_ADMIN_ROOT')")
@@ -50,6 +56,15 @@ public class DepartmentController {
         return ResponseEntity.ok(departments);
     }
 
+    @GetMapping("/search")
+    @PreAuthorize("hasAnyAuthority('DEPARTMENT_READ','SYS_ADMIN_ROOT')")
+    public ResponseEntity<NameSearchResultDTO> search(@RequestParam("q") String query,
+                                                      @RequestParam(required = false) Integer page,
+                                                      @RequestParam(required = false) Integer size,
+                                                      @RequestParam(required = false) UUID organizationId) {
+        return ResponseEntity.ok(unitSearchService.searchDepartments(searchOrganizationId(organizationId), query, page, size));
+    }
+
     @PostMapping
     @PreAuthorize("hasAnyAuthority('DEPARTMENT_CREATE','SYS_ADMIN_ROOT')")
     public ResponseEntity<DepartmentDTO> create(@RequestBody DepartmentCreateDTO deptDto) {
@@ -76,30 +91,33 @@ public class DepartmentController {
 
     @GetMapping("/{id}")
     @PreAuthorize("hasAnyAuthority('DEPARTMENT_READ','SYS_ADMIN_ROOT')")
-    public ResponseEntity<DepartmentDTO> getById(@PathVariable UUID id) {
-        DepartmentDTO department;
+    public ResponseEntity<DepartmentDTO> getById(@PathVariable UUID id, WebRequest webRequest) {
+        Department dept;
 
         if (organizationContextUtil.isRootAdmin()) {
-            Department dept = service.getById(id);
+            dept = service.getById(id);
             if (dept == null) {
                 throw new BadRequestException("Department not found with ID: " + id);
             }
-            department = DepartmentMapper.toDTO(dept);
         } else {
             UUID organizationId = organizationContextUtil.getCurrentOrganizationId();
-            Department dept = service.getByIdAndOrganization(id, organizationId);
+            dept = service.getByIdAndOrganization(id, organizationId);
             if (dept == null) {
                 throw new BadRequestException("Department not found with ID: " + id);
             }
-            department = DepartmentMapper.toDTO(dept);
         }
 
-        return ResponseEntity.ok(department);
+        String etag = EntityTagUtil.of(dept);
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(etag).body(DepartmentMapper.toDTO(dept));
     }
 
     @PutMapping("/{id}")
     @PreAuthorize("hasAnyAuthority('DEPARTMENT_UPDATE','SYS_ADMIN_ROOT')")
-    public ResponseEntity<DepartmentDTO> update(@PathVariable UUID id, @RequestBody DepartmentCreateDTO deptDto) {
+    public ResponseEntity<DepartmentDTO> update(@PathVariable UUID id, @RequestBody DepartmentCreateDTO deptDto,
+                                                WebRequest webRequest) {
         DepartmentDTO updatedDepartment;
 
         if (organizationContextUtil.isRootAdmin()) {
@@ -111,6 +129,8 @@ public class DepartmentController {
             if (existing == null) {
                 throw new BadRequestException("Department not found with ID: " + id);
             }
+            // Checked against the version this update is written with, so a concurrent commit still fails it
+            EntityTagUtil.requireMatch(webRequest.getHeader(HttpHeaders.IF_MATCH), EntityTagUtil.of(existing));
 
             existing.setName(deptDto.getName());
             Organization org = organizationService.getById(deptDto.getOrganizationId());
@@ -127,6 +147,7 @@ public class DepartmentController {
             if (existing == null) {
                 throw new BadRequestException("Department not found with ID: " + id);
             }
+            EntityTagUtil.requireMatch(webRequest.getHeader(HttpHeaders.IF_MATCH), EntityTagUtil.of(existing));
 
             existing.setName(deptDto.getName());
 
@@ -152,47 +173,48 @@ public class DepartmentController {
 
     @GetMapping("/{id}/exists")
     public ResponseEntity<Boolean> exists(@PathVariable UUID id) {
-        boolean exists = service.getDepartmentRepository().existsById(id);
+        boolean exists = service.existsById(id);
         return ResponseEntity.ok().body(exists);
     }
 
     @PostMapping("/{departmentId}/assign-user/{userId}")
     @PreAuthorize("hasAnyAuthority('DEPARTMENT_UPDATE','SYS_ADMIN_ROOT')")
     public ResponseEntity<String> assignUserToDepartment(@PathVariable UUID departmentId, @PathVariable UUID userId) {
+        boolean changed;
         if (organizationContextUtil.isRootAdmin()) {
             Department department = service.getById(departmentId);
             if (department == null) {
                 throw new BadRequestException("Department not found with ID: " + departmentId);
             }
-            service.assignUserToDepartmentInOrganization(departmentId, userId, department.getOrganization().getId());
+            changed = service.assignUserToDepartmentInOrganization(departmentId, userId, department.getOrganization().getId());
         } else {
             UUID organizationId = organizationContextUtil.getCurrentOrganizationId();
-            service.assignUserToDepartmentInOrganization(departmentId, userId, organizationId);
+            changed = service.assignUserToDepartmentInOrganization(departmentId, userId, organizationId);
         }
-        return ResponseEntity.ok("User assigned to department successfully");
+        return ResponseEntity.ok(changed ? "User assigned to department successfully" : "User is already assigned to this department");
     }
 
     @PostMapping("/{departmentId}/remove-user/{userId}")
     @PreAuthorize("hasAnyAuthority('DEPARTMENT_UPDATE','SYS_ADMIN_ROOT')")
     public ResponseEntity<String> removeUserFromDepartment(@PathVariable UUID departmentId, @PathVariable UUID userId) {
+        boolean changed;
         if (organizationContextUtil.isRootAdmin()) {
             Department department = service.getById(departmentId);
             if (department == null) {
                 throw new BadRequestException("Department not found with ID: " + departmentId);
             }
-            service.removeUserFromDepartmentInOrganization(departmentId, userId, department.getOrganization().getId());
+            changed = service.removeUserFromDepartmentInOrganization(departmentId, userId, department.getOrganization().getId());
         } else {
             UUID organizationId = organizationContextUtil.getCurrentOrganizationId();
-            service.removeUserFromDepartmentInOrganization(departmentId, userId, organizationId);
+            changed = service.removeUserFromDepartmentInOrganization(departmentId, userId, organizationId);
         }
-        return ResponseEntity.ok("User removed from department successfully");
+        return ResponseEntity.ok(changed ? "User removed from department successfully" : "User is not assigned to this department");
     }
 
     @GetMapping("/user/{userId}")
     public ResponseEntity<UUID> getDepartmentIdByUserId(@PathVariable UUID userId) {
         try {
-            Department department = service.findByUserId(userId);
-            return ResponseEntity.ok(department.getId());
+            return ResponseEntity.ok(service.findIdByUserId(userId));
         } catch (ResourceNotFoundException ex) {
             return ResponseEntity.status(HttpStatus.NOT_FOUND).body(null);
         }
@@ -207,4 +229,15 @@ public class DepartmentController {
         List<UserDTO> users = service.getUsersForDepartment(departmentId, orgId);
         return ResponseEntity.ok(users);
     }
+
+    // Root admins name the organization to search; everyone else searches their own
+    private UUID searchOrganizationId(UUID organizationId) {
+        if (!organizationContextUtil.isRootAdmin()) {
+            return organizationContextUtil.getCurrentOrganizationId();
+        }
+        if (organizationId == null) {
+            throw new BadRequestException("organizationId is required when searching as root admin.");
+        }
+        return organizationId;
+    }
 }
\ No newline at end of file
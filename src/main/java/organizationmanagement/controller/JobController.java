@@ -0,0 +1,45 @@
+package organizationmanagement.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import organizationmanagement.dto.JobDTO;
+import organizationmanagement.exception.ResourceNotFoundException;
+import organizationmanagement.mapper.JobMapper;
+import organizationmanagement.model.Job;
+import organizationmanagement.service.JobService;
+import organizationmanagement.util.OrganizationContextUtil;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/jobs")
+@RequiredArgsConstructor
+public class JobController {
+
+    private final JobService jobService;
+    private final OrganizationContextUtil organizationContextUtil;
+
+    @GetMapping("/{id}")
+    @PreAuthorize("hasAnyAuthority('ORGANIZATION_READ', 'SYS_ADMIN_ROOT')")
+    public ResponseEntity<JobDTO> getById(@PathVariable UUID id) {
+        return ResponseEntity.ok(JobMapper.toDTO(getAccessibleJob(id)));
+    }
+
+    @PostMapping("/{id}/cancel")
+    @PreAuthorize("hasAnyAuthority('ORGANIZATION_UPDATE', 'SYS_ADMIN_ROOT')")
+    public ResponseEntity<JobDTO> cancel(@PathVariable UUID id) {
+        getAccessibleJob(id);
+        return ResponseEntity.ok(JobMapper.toDTO(jobService.cancel(id)));
+    }
+
+    // Jobs of other organizations are reported as missing rather than forbidden
+    private Job getAccessibleJob(UUID id) {
+        Job job = jobService.getById(id);
+        if (!organizationContextUtil.isRootAdmin() && !organizationContextUtil.hasOrganizationAccess(job.getOrganizationId())) {
+            throw new ResourceNotFoundException("Job not found with id: " + id);
+        }
+        return job;
+    }
+}
@@ -1,26 +1,52 @@
 package organizationmanagement.controller;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import organizationmanagement.cache.OrganizationTree;
+import organizationmanagement.cache.OrganizationTreeCache;
+import organizationmanagement.dto.BulkSurveyAssignmentDTO;
 import organizationmanagement.dto.DepartmentDTO;
+import organizationmanagement.dto.IdPageDTO;
+import organizationmanagement.dto.ImportResultDTO;
+import organizationmanagement.dto.JobDTO;
+import organizationmanagement.dto.MembershipLookupRequestDTO;
 import organizationmanagement.dto.OrganizationDTO;
+import organizationmanagement.dto.OrganizationStatsDTO;
 import organizationmanagement.dto.TeamDTO;
+import organizationmanagement.dto.UserMembershipDTO;
 import organizationmanagement.exception.ResourceNotFoundException;
+import organizationmanagement.job.SurveyBulkAssignmentJobHandler;
+import organizationmanagement.mapper.JobMapper;
+import organizationmanagement.model.Job;
 import organizationmanagement.model.Organization;
 import organizationmanagement.service.DepartmentService;
+import organizationmanagement.service.JobService;
+import organizationmanagement.service.MembershipService;
+import organizationmanagement.service.OrganizationExportService;
+import organizationmanagement.service.OrganizationImportService;
 import organizationmanagement.service.OrganizationService;
+import organizationmanagement.service.SurveyAssignmentService;
 import organizationmanagement.service.TeamService;
+import organizationmanagement.service.UnitStatsService;
+import organizationmanagement.util.EntityTagUtil;
 import organizationmanagement.util.OrganizationContextUtil;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import organizationmanagement.mapper.OrganizationMapper;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/api/organizations")
@@ -30,6 +56,13 @@ public class OrganizationController {
     private final OrganizationService organizationService;
     private final DepartmentService departmentService;
     private final TeamService teamService;
+    private final SurveyAssignmentService surveyAssignmentService;
+    private final MembershipService membershipService;
+    private final UnitStatsService unitStatsService;
+    private final OrganizationExportService organizationExportService;
+    private final OrganizationImportService organizationImportService;
+    private final JobService jobService;
+    private final OrganizationTreeCache organizationTreeCache;
     private final OrganizationContextUtil organizationContextUtil;
 
     // ===== ORGANIZATION ENDPOINTS =====
@@ -56,7 +89,7 @@ public class OrganizationController {
 
     @GetMapping("/{id}")
     @PreAuthorize("hasAnyAuthority('ORGANIZATION_READ', 'SYS_ADMIN_ROOT')")
-    public ResponseEntity<OrganizationDTO> getById(@PathVariable UUID id) {
+    public ResponseEntity<OrganizationDTO> getById(@PathVariable UUID id, WebRequest webRequest) {
         Organization organization;
 
         if (organizationContextUtil.isRootAdmin()) {
@@ -69,41 +102,50 @@ public class OrganizationController {
             organization = organizationService.getById(id);
         }
 
-        return ResponseEntity.ok(OrganizationMapper.toDTO(organization));
+        String etag = EntityTagUtil.of(organization);
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(etag).body(OrganizationMapper.toDTO(organization));
     }
 
     @PutMapping("/{id}")
     @PreAuthorize("hasAnyAuthority('ORGANIZATION_UPDATE', 'SYS_ADMIN_ROOT')")
-    public ResponseEntity<OrganizationDTO> update(@PathVariable UUID id, @RequestBody Organization organization) {
-        Organization updatedOrganization;
-
-        if (organizationContextUtil.isRootAdmin()) {
-            updatedOrganization = organizationService.update(id, organization);
-        } else {
+    public ResponseEntity<OrganizationDTO> update(@PathVariable UUID id, @RequestBody Organization organization,
+                                                  WebRequest webRequest) {
+        if (!organizationContextUtil.isRootAdmin()) {
             UUID currentOrgId = organizationContextUtil.getCurrentOrganizationId();
             if (!id.equals(currentOrgId)) {
                 throw new IllegalArgumentException("Access denied: You can only update your own organization");
             }
-            updatedOrganization = organizationService.update(id, organization);
         }
+        Organization updatedOrganization = organizationService.update(id, organization, webRequest.getHeader(HttpHeaders.IF_MATCH));
 
         return ResponseEntity.ok(OrganizationMapper.toDTO(updatedOrganization));
     }
 
     @DeleteMapping("/{id}")
     @PreAuthorize("hasAnyAuthority('ORGANIZATION_DELETE', 'SYS_ADMIN_ROOT')")
-    public ResponseEntity<Void> delete(@PathVariable UUID id) {
+    public ResponseEntity<?> delete(@PathVariable UUID id) {
+        Job job;
         if (organizationContextUtil.isRootAdmin()) {
-            organizationService.delete(id);
+            job = organizationService.delete(id);
         } else {
             UUID currentOrgId = organizationContextUtil.getCurrentOrganizationId();
             if (!id.equals(currentOrgId)) {
                 throw new IllegalArgumentException("Access denied: You can only delete your own organization");
             }
-            organizationService.delete(id);
+            job = organizationService.delete(id);
         }
 
-        return ResponseEntity.noContent().build();
+        // Large tenants are removed in the background; poll the returned job
+        return job != null ? accepted(job) : ResponseEntity.noContent().build();
+    }
+
+    // ===== MEMBERSHIP LOOKUP ENDPOINTS =====
+    @PostMapping("/memberships/lookup")
+    public ResponseEntity<Map<UUID, UserMembershipDTO>> lookupMemberships(@RequestBody MembershipLookupRequestDTO request) {
+        return ResponseEntity.ok(membershipService.getMemberships(request.getUserIds()));
     }
 
     // ===== USER ASSIGNMENT ENDPOINTS =====
@@ -115,11 +157,12 @@ public class OrganizationController {
             @PathVariable UUID userId) {
 
         verifyOrganizationAccess(organizationId);
-        departmentService.assignUserToDepartmentInOrganization(departmentId, userId, organizationId);
+        boolean changed = departmentService.assignUserToDepartmentInOrganization(departmentId, userId, organizationId);
 
         return ResponseEntity.ok(Collections.singletonMap(
                 "message",
-                String.format("User %s successfully assigned to department %s in organization %s",
+                String.format(changed ? "User %s successfully assigned to department %s in organization %s"
+                                : "User %s was already assigned to department %s in organization %s",
                         userId, departmentId, organizationId)
         ));
     }
@@ -132,11 +175,12 @@ public class OrganizationController {
             @PathVariable UUID userId) {
 
         verifyOrganizationAccess(organizationId);
-        teamService.assignUserToTeamInOrganization(teamId, userId, organizationId);
+        boolean changed = teamService.assignUserToTeamInOrganization(teamId, userId, organizationId);
 
         return ResponseEntity.ok(Collections.singletonMap(
                 "message",
-                String.format("User %s successfully assigned to team %s in organization %s",
+                String.format(changed ? "User %s successfully assigned to team %s in organization %s"
+                                : "User %s was already assigned to team %s in organization %s",
                         userId, teamId, organizationId)
         ));
     }
@@ -149,11 +193,12 @@ public class OrganizationController {
             @PathVariable UUID userId) {
 
         verifyOrganizationAccess(organizationId);
-        departmentService.removeUserFromDepartmentInOrganization(departmentId, userId, organizationId);
+        boolean changed = departmentService.removeUserFromDepartmentInOrganization(departmentId, userId, organizationId);
 
         return ResponseEntity.ok(Collections.singletonMap(
                 "message",
-                String.format("User %s successfully removed from department %s in organization %s",
+                String.format(changed ? "User %s successfully removed from department %s in organization %s"
+                                : "User %s was not assigned to department %s in organization %s",
                         userId, departmentId, organizationId)
         ));
     }
@@ -166,11 +211,12 @@ public class OrganizationController {
             @PathVariable UUID userId) {
 
         verifyOrganizationAccess(organizationId);
-        teamService.removeUserFromTeamInOrganization(teamId, userId, organizationId);
+        boolean changed = teamService.removeUserFromTeamInOrganization(teamId, userId, organizationId);
 
         return ResponseEntity.ok(Collections.singletonMap(
                 "message",
-                String.format("User %s successfully removed from team %s in organization %s",
+                String.format(changed ? "User %s successfully removed from team %s in organization %s"
+                                : "User %s was not assigned to team %s in organization %s",
                         userId, teamId, organizationId)
         ));
     }
@@ -184,11 +230,12 @@ public class OrganizationController {
             @PathVariable UUID surveyId) {
 
         verifyOrganizationAccess(organizationId);
-        departmentService.assignSurveyToDepartmentInOrganization(departmentId, surveyId, organizationId);
+        boolean changed = departmentService.assignSurveyToDepartmentInOrganization(departmentId, surveyId, organizationId);
 
         return ResponseEntity.ok(Collections.singletonMap(
                 "message",
-                String.format("Survey %s successfully assigned to department %s in organization %s",
+                String.format(changed ? "Survey %s successfully assigned to department %s in organization %s"
+                                : "Survey %s was already assigned to department %s in organization %s",
                         surveyId, departmentId, organizationId)
         ));
     }
@@ -201,15 +248,33 @@ public class OrganizationController {
             @PathVariable UUID surveyId) {
 
         verifyOrganizationAccess(organizationId);
-        teamService.assignSurveyToTeamInOrganization(teamId, surveyId, organizationId);
+        boolean changed = teamService.assignSurveyToTeamInOrganization(teamId, surveyId, organizationId);
 
         return ResponseEntity.ok(Collections.singletonMap(
                 "message",
-                String.format("Survey %s successfully assigned to team %s in organization %s",
+                String.format(changed ? "Survey %s successfully assigned to team %s in organization %s"
+                                : "Survey %s was already assigned to team %s in organization %s",
                         surveyId, teamId, organizationId)
         ));
     }
 
+    @PostMapping("/{organizationId}/surveys/{surveyId}/bulk-assign")
+    @PreAuthorize("hasAnyAuthority('ORGANIZATION_UPDATE', 'SYS_ADMIN_ROOT')")
+    public ResponseEntity<?> assignSurveyInBulk(
+            @PathVariable UUID organizationId,
+            @PathVariable UUID surveyId,
+            @RequestParam(defaultValue = "false") boolean async,
+            @RequestBody BulkSurveyAssignmentDTO request) {
+
+        verifyOrganizationAccess(organizationId);
+        if (async) {
+            Job job = jobService.submit(SurveyBulkAssignmentJobHandler.TYPE, organizationId,
+                    Map.of("surveyId", surveyId, "request", request));
+            return accepted(job);
+        }
+        return ResponseEntity.ok(surveyAssignmentService.assignSurveyInBulk(surveyId, request, organizationId));
+    }
+
     @DeleteMapping("/{organizationId}/departments/{departmentId}/remove-survey/{surveyId}")
     @PreAuthorize("hasAnyAuthority('ORGANIZATION_DELETE', 'SYS_ADMIN_ROOT')")
     public ResponseEntity<Map<String, String>> removeSurveyFromDepartment(
@@ -218,11 +283,12 @@ public class OrganizationController {
             @PathVariable UUID surveyId) {
 
         verifyOrganizationAccess(organizationId);
-        departmentService.removeSurveyFromDepartmentInOrganization(departmentId, surveyId, organizationId);
+        boolean changed = departmentService.removeSurveyFromDepartmentInOrganization(departmentId, surveyId, organizationId);
 
         return ResponseEntity.ok(Collections.singletonMap(
                 "message",
-                String.format("Survey %s successfully removed from department %s in organization %s",
+                String.format(changed ? "Survey %s successfully removed from department %s in organization %s"
+                                : "Survey %s was not assigned to department %s in organization %s",
                         surveyId, departmentId, organizationId)
         ));
     }
@@ -235,18 +301,82 @@ public class OrganizationController {
             @PathVariable UUID surveyId) {
 
         verifyOrganizationAccess(organizationId);
-        teamService.removeSurveyFromTeamInOrganization(teamId, surveyId, organizationId);
+        boolean changed = teamService.removeSurveyFromTeamInOrganization(teamId, surveyId, organizationId);
 
         return ResponseEntity.ok(Collections.singletonMap(
                 "message",
-                String.format("Survey %s successfully removed from team %s in organization %s",
+                String.format(changed ? "Survey %s successfully removed from team %s in organization %s"
+                                : "Survey %s was not assigned to team %s in organization %s",
                         surveyId, teamId, organizationId)
         ));
     }
+    // ===== SURVEY AUDIENCE ENDPOINTS =====
+    @GetMapping("/{organizationId}/surveys/{surveyId}/teams")
+    @PreAuthorize("hasAnyAuthority('ORGANIZATION_READ', 'SYS_ADMIN_ROOT')")
+    public ResponseEntity<IdPageDTO> getTeamsBySurvey(
+            @PathVariable UUID organizationId,
+            @PathVariable UUID surveyId,
+            @RequestParam(required = false) UUID after,
+            @RequestParam(required = false) Integer limit) {
+
+        verifyOrganizationAccess(organizationId);
+        return ResponseEntity.ok(surveyAssignmentService.getTeamIdsBySurvey(surveyId, organizationId, after, limit));
+    }
+
+    @GetMapping("/{organizationId}/surveys/{surveyId}/departments")
+    @PreAuthorize("hasAnyAuthority('ORGANIZATION_READ', 'SYS_ADMIN_ROOT')")
+    public ResponseEntity<IdPageDTO> getDepartmentsBySurvey(
+            @PathVariable UUID organizationId,
+            @PathVariable UUID surveyId,
+            @RequestParam(required = false) UUID after,
+            @RequestParam(required = false) Integer limit) {
+
+        verifyOrganizationAccess(organizationId);
+        return ResponseEntity.ok(surveyAssignmentService.getDepartmentIdsBySurvey(surveyId, organizationId, after, limit));
+    }
+
+    @GetMapping("/{organizationId}/surveys/{surveyId}/audience")
+    @PreAuthorize("hasAnyAuthority('ORGANIZATION_READ', 'SYS_ADMIN_ROOT')")
+    public ResponseEntity<IdPageDTO> getSurveyAudience(
+            @PathVariable UUID organizationId,
+            @PathVariable UUID surveyId,
+            @RequestParam(required = false) UUID after,
+            @RequestParam(required = false) Integer limit) {
+
+        verifyOrganizationAccess(organizationId);
+        return ResponseEntity.ok(surveyAssignmentService.getAudienceUserIdsBySurvey(surveyId, organizationId, after, limit));
+    }
+
+    // ===== EXPORT ENDPOINTS =====
+    @GetMapping(value = "/{organizationId}/export", produces = "application/x-ndjson")
+    @PreAuthorize("hasAnyAuthority('ORGANIZATION_READ', 'SYS_ADMIN_ROOT')")
+    public ResponseEntity<StreamingResponseBody> export(@PathVariable UUID organizationId) {
+        verifyOrganizationAccess(organizationId);
+
+        StreamingResponseBody body = out -> organizationExportService.exportOrganization(organizationId, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("application/x-ndjson"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"organization-" + organizationId + ".ndjson\"")
+                .body(body);
+    }
+
+    // ===== IMPORT ENDPOINTS =====
+    @PostMapping(value = "/{organizationId}/import", consumes = {"text/csv", "application/x-ndjson"})
+    @PreAuthorize("hasAnyAuthority('ORGANIZATION_UPDATE', 'SYS_ADMIN_ROOT')")
+    public ResponseEntity<ImportResultDTO> importStructure(
+            @PathVariable UUID organizationId,
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            InputStream body) throws IOException {
+
+        verifyOrganizationAccess(organizationId);
+        boolean csv = MediaType.parseMediaType(contentType).getSubtype().equalsIgnoreCase("csv");
+        return ResponseEntity.status(HttpStatus.CREATED).body(organizationImportService.importStructure(organizationId, body, csv));
+    }
+
     // ===== HIERARCHY ENDPOINTS =====
     @GetMapping("/{id}/children")
     @PreAuthorize("hasAnyAuthority('SYS_ADMIN_ROOT')")
-    public ResponseEntity<ChildrenResponse> getChildren(@PathVariable UUID id) {
+    public ResponseEntity<ChildrenResponse> getChildren(@PathVariable UUID id, WebRequest webRequest) {
         if (!organizationContextUtil.isRootAdmin()) {
             UUID currentOrgId = organizationContextUtil.getCurrentOrganizationId();
             if (!id.equals(currentOrgId)) {
@@ -254,34 +384,52 @@ public class OrganizationController {
             }
         }
 
-        Organization org = organizationService.getById(id);
-        OrganizationDTO orgDTO = OrganizationMapper.toDTO(org);
-
-        List<DepartmentDTO> departments = departmentService.getByOrganizationId(id).stream()
-                .map(dept -> {
-                    DepartmentDTO dto = new DepartmentDTO();
-                    dto.setId(dept.getId());
-                    dto.setName(dept.getName());
-                    dto.setOrganization(orgDTO);
-                    return dto;
-                })
-                .collect(Collectors.toList());
-
-        List<TeamDTO> teams = departments.stream()
-                .flatMap(deptDTO -> teamService.getByDepartmentId(deptDTO.getId()).stream()
-                        .map(team -> {
-                            TeamDTO teamDTO = new TeamDTO();
-                            teamDTO.setId(team.getId());
-                            teamDTO.setName(team.getName());
-                            teamDTO.setDepartment(deptDTO);
-                            return teamDTO;
-                        }))
-                .collect(Collectors.toList());
-
-        return ResponseEntity.ok(new ChildrenResponse(departments, teams));
+        // Served from the in-memory tree; the DB is only hit on the first read after a cache miss
+        OrganizationTree tree = organizationTreeCache.get(id);
+        String etag = EntityTagUtil.ofHierarchy(tree.fingerprint());
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        OrganizationDTO orgDTO = new OrganizationDTO();
+        orgDTO.setId(tree.getOrganizationId());
+        orgDTO.setName(tree.getOrganizationName());
+
+        List<DepartmentDTO> departments = new ArrayList<>(tree.departmentCount());
+        for (int i = 0; i < tree.departmentCount(); i++) {
+            DepartmentDTO dto = new DepartmentDTO();
+            dto.setId(tree.departmentId(i));
+            dto.setName(tree.departmentName(i));
+            dto.setOrganization(orgDTO);
+            departments.add(dto);
+        }
+
+        List<TeamDTO> teams = new ArrayList<>(tree.teamCount());
+        for (int i = 0; i < tree.teamCount(); i++) {
+            TeamDTO teamDTO = new TeamDTO();
+            teamDTO.setId(tree.teamId(i));
+            teamDTO.setName(tree.teamName(i));
+            teamDTO.setDepartment(departments.get(tree.teamDepartment(i)));
+            teams.add(teamDTO);
+        }
+
+        return ResponseEntity.ok().eTag(etag).body(new ChildrenResponse(departments, teams));
+    }
+
+    // ===== AGGREGATE ENDPOINTS =====
+    @GetMapping("/{organizationId}/stats")
+    @PreAuthorize("hasAnyAuthority('ORGANIZATION_READ', 'SYS_ADMIN_ROOT')")
+    public ResponseEntity<OrganizationStatsDTO> getStats(@PathVariable UUID organizationId) {
+        verifyOrganizationAccess(organizationId);
+        return ResponseEntity.ok(unitStatsService.getStats(organizationId));
     }
 
     // ===== HELPER METHODS =====
+    private ResponseEntity<JobDTO> accepted(Job job) {
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/jobs/" + job.getId()))
+                .body(JobMapper.toDTO(job));
+    }
+
     private void verifyOrganizationAccess(UUID organizationId) {
         if (!organizationService.exists(organizationId)) {
             throw new ResourceNotFoundException("Organization not found with id: " + organizationId);
@@ -1,19 +1,25 @@
 package organizationmanagement.controller;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import organizationmanagement.dto.DepartmentDTO;
+import organizationmanagement.dto.NameSearchResultDTO;
 import organizationmanagement.dto.TeamCreateDTO;
 import organizationmanagement.dto.TeamDTO;
 import organizationmanagement.model.Department;
 import organizationmanagement.model.Team;
 import organizationmanagement.service.DepartmentService;
 import organizationmanagement.service.TeamService;
+import organizationmanagement.service.UnitSearchService;
+import organizationmanagement.util.EntityTagUtil;
 import organizationmanagement.util.OrganizationContextUtil;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import organizationmanagement.mapper.TeamMapper;
+import organizationmanagement.exception.BadRequestException;
 import organizationmanagement.exception.ResourceNotFoundException;
 import organizationmanagement.dto.UserDTO;
 
@@ -28,6 +34,7 @@ public class TeamController {
     private final TeamService teamService;
     private final DepartmentService departmentService;
     private final OrganizationContextUtil organizationContextUtil;
+    private final UnitSearchService unitSearchService;
 
     @GetMapping
     @PreAuthorize("hasAnyAuthority('TEAM_READ','SYS_ADMIN_ROOT')")
@@ -48,6 +55,15 @@ public class TeamController {
         return ResponseEntity.ok(teams);
     }
 
+    @GetMapping("/search")
+    @PreAuthorize("hasAnyAuthority('TEAM_READ','SYS_ADMIN_ROOT')")
+    public ResponseEntity<NameSearchResultDTO> search(@RequestParam("q") String query,
+                                                      @RequestParam(required = false) Integer page,
+                                                      @RequestParam(required = false) Integer size,
+                                                      @RequestParam(required = false) UUID organizationId) {
+        return ResponseEntity.ok(unitSearchService.searchTeams(searchOrganizationId(organizationId), query, page, size));
+    }
+
     @PostMapping
     @PreAuthorize("hasAnyAuthority('TEAM_CREATE','SYS_ADMIN_ROOT')")
     public ResponseEntity<TeamDTO> create(@RequestBody TeamCreateDTO teamDto) {
@@ -75,19 +91,21 @@ public class TeamController {
 
     @GetMapping("/{id}")
     @PreAuthorize("hasAnyAuthority('TEAM_READ','SYS_ADMIN_ROOT')")
-    public ResponseEntity<TeamDTO> getById(@PathVariable UUID id) {
-        TeamDTO team;
+    public ResponseEntity<TeamDTO> getById(@PathVariable UUID id, WebRequest webRequest) {
+        Team teamEntity;
 
         if (organizationContextUtil.isRootAdmin()) {
-            Team teamEntity = teamService.getById(id);
-            team = TeamMapper.toDTO(teamEntity);
+            teamEntity = teamService.getById(id);
         } else {
             UUID organizationId = organizationContextUtil.getCurrentOrganizationId();
-            Team teamEntity = teamService.getByIdAndOrganization(id, organizationId);
-            team = TeamMapper.toDTO(teamEntity);
+            teamEntity = teamService.getByIdAndOrganization(id, organizationId);
         }
 
-        return ResponseEntity.ok(team);
+        String etag = EntityTagUtil.of(teamEntity);
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(etag).body(TeamMapper.toDTO(teamEntity));
     }
 
     @DeleteMapping("/{id}")
@@ -105,21 +123,23 @@ public class TeamController {
 
     @PutMapping("/{id}")
     @PreAuthorize("hasAnyAuthority('TEAM_UPDATE','SYS_ADMIN_ROOT')")
-    public ResponseEntity<TeamDTO> update(@PathVariable UUID id, @RequestBody TeamCreateDTO teamDto) {
+    public ResponseEntity<TeamDTO> update(@PathVariable UUID id, @RequestBody TeamCreateDTO teamDto,
+                                          WebRequest webRequest) {
         if (teamDto.getDepartmentId() == null) {
             throw new IllegalArgumentException("Department ID must be provided to update a team.");
         }
+        String ifMatch = webRequest.getHeader(HttpHeaders.IF_MATCH);
 
         TeamDTO updatedTeam;
         Team updatedTeamEntity = convertToEntity(teamDto);
 
         if (organizationContextUtil.isRootAdmin()) {
-            Team updated = teamService.update(id, teamDto.getDepartmentId(), updatedTeamEntity);
+            Team updated = teamService.update(id, teamDto.getDepartmentId(), updatedTeamEntity, ifMatch);
             updatedTeam = TeamMapper.toDTO(updated);
         } else {
             UUID organizationId = organizationContextUtil.getCurrentOrganizationId();
             Team updated = teamService.updateInOrganization(
-                    id, teamDto.getDepartmentId(), updatedTeamEntity, organizationId);
+                    id, teamDto.getDepartmentId(), updatedTeamEntity, organizationId, ifMatch);
             updatedTeam = TeamMapper.toDTO(updated);
         }
 
@@ -149,33 +169,35 @@ public class TeamController {
     @PostMapping("/{teamId}/assign-user/{userId}")
     @PreAuthorize("hasAnyAuthority('TEAM_UPDATE','SYS_ADMIN_ROOT')")
     public ResponseEntity<String> assignUserToTeam(@PathVariable UUID teamId, @PathVariable UUID userId) {
+        boolean changed;
         if (organizationContextUtil.isRootAdmin()) {
             Team team = teamService.getById(teamId);
             if (team == null) {
                 throw new IllegalArgumentException("Team not found with ID: " + teamId);
             }
-            teamService.assignUserToTeamInOrganization(teamId, userId, team.getDepartment().getOrganization().getId());
+            changed = teamService.assignUserToTeamInOrganization(teamId, userId, team.getDepartment().getOrganization().getId());
         } else {
             UUID organizationId = organizationContextUtil.getCurrentOrganizationId();
-            teamService.assignUserToTeamInOrganization(teamId, userId, organizationId);
+            changed = teamService.assignUserToTeamInOrganization(teamId, userId, organizationId);
         }
-        return ResponseEntity.ok("User assigned to team successfully");
+        return ResponseEntity.ok(changed ? "User assigned to team successfully" : "User is already assigned to this team");
     }
 
     @PostMapping("/{teamId}/remove-user/{userId}")
     @PreAuthorize("hasAnyAuthority('TEAM_UPDATE','SYS_ADMIN_ROOT')")
     public ResponseEntity<String> removeUserFromTeam(@PathVariable UUID teamId, @PathVariable UUID userId) {
+        boolean changed;
         if (organizationContextUtil.isRootAdmin()) {
             Team team = teamService.getById(teamId);
             if (team == null) {
                 throw new IllegalArgumentException("Team not found with ID: " + teamId);
             }
-            teamService.removeUserFromTeamInOrganization(teamId, userId, team.getDepartment().getOrganization().getId());
+            changed = teamService.removeUserFromTeamInOrganization(teamId, userId, team.getDepartment().getOrganization().getId());
         } else {
             UUID organizationId = organizationContextUtil.getCurrentOrganizationId();
-            teamService.removeUserFromTeamInOrganization(teamId, userId, organizationId);
+            changed = teamService.removeUserFromTeamInOrganization(teamId, userId, organizationId);
         }
-        return ResponseEntity.ok("User removed from team successfully");
+        return ResponseEntity.ok(changed ? "User removed from team successfully" : "User is not assigned to this team");
     }
 
     @GetMapping("/{id}/exists")
@@ -187,8 +209,7 @@ public class TeamController {
     @GetMapping("/user/{userId}")
     public ResponseEntity<UUID> getTeamIdByUserId(@PathVariable UUID userId) {
         try {
-            Team team = teamService.findByUserId(userId);
-            return ResponseEntity.ok(team.getId());
+            return ResponseEntity.ok(teamService.findIdByUserId(userId));
         } catch (ResourceNotFoundException ex) {
             return ResponseEntity.status(HttpStatus.NOT_FOUND).body(null);
         }
@@ -204,6 +225,17 @@ public class TeamController {
         return ResponseEntity.ok(users);
     }
 
+    // Root admins name the organization to search; everyone else searches their own
+    private UUID searchOrganizationId(UUID organizationId) {
+        if (!organizationContextUtil.isRootAdmin()) {
+            return organizationContextUtil.getCurrentOrganizationId();
+        }
+        if (organizationId == null) {
+            throw new BadRequestException("organizationId is required when searching as root admin.");
+        }
+        return organizationId;
+    }
+
     // Mapping methods
 
     private Team convertToEntity(TeamCreateDTO dto) {
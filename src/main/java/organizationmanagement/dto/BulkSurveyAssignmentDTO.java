@@ -0,0 +1,19 @@
+package organizationmanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkSurveyAssignmentDTO {
+    private List<UUID> teamIds = new ArrayList<>();
+    private List<UUID> departmentIds = new ArrayList<>();
+    private List<UUID> teamsOfDepartmentIds = new ArrayList<>(); // every team under these departments
+    private boolean allTeams; // every team in the organization
+}
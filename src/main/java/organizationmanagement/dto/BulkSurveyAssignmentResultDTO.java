@@ -0,0 +1,16 @@
+package organizationmanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkSurveyAssignmentResultDTO {
+    private UUID surveyId;
+    private int teamsAssigned;
+    private int departmentsAssigned;
+}
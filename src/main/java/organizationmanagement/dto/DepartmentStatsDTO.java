@@ -0,0 +1,24 @@
+package organizationmanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Direct counts of a department, and distinct totals over the department together with its teams
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DepartmentStatsDTO {
+    private UUID id;
+    private String name;
+    private long memberCount;
+    private long surveyCount;
+    private long totalMemberCount;
+    private long totalSurveyCount;
+    private List<UnitStatsDTO> teams;
+}
@@ -0,0 +1,19 @@
+package organizationmanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * One keyset page of ids; pass nextCursor as "after" to get the next page, null means no more pages
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class IdPageDTO {
+    private List<UUID> items;
+    private UUID nextCursor;
+}
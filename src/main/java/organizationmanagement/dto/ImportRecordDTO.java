@@ -0,0 +1,26 @@
+package organizationmanagement.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * One line of a structure import, in the same shape as the NDJSON export.
+ * type is department, team, departmentUser, departmentSurvey, teamUser or teamSurvey; organization lines are ignored.
+ * A team names its department either by departmentId or, for departments without a given id, by department name.
+ */
+@Data
+@NoArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class ImportRecordDTO {
+    private String type;
+    private UUID id;
+    private String name;
+    private UUID departmentId;
+    private String department;
+    private UUID teamId;
+    private UUID userId;
+    private UUID surveyId;
+}
@@ -0,0 +1,17 @@
+package organizationmanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportResultDTO {
+    private UUID organizationId;
+    private int departmentsCreated;
+    private int teamsCreated;
+    private int membershipsImported; // rows inserted; memberships that already existed are not counted
+}
@@ -0,0 +1,27 @@
+package organizationmanagement.dto;
+
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import organizationmanagement.model.JobStatus;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+public class JobDTO {
+    private UUID id;
+    private String type;
+    private UUID organizationId;
+    private JobStatus status;
+    private long progressDone;
+    private Long progressTotal;
+    @JsonRawValue
+    private String result;
+    private String error;
+    private boolean cancelRequested;
+    private Instant createdAt;
+    private Instant startedAt;
+    private Instant finishedAt;
+}
@@ -0,0 +1,22 @@
+package organizationmanagement.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * A team or department matched by name; parentId is the team's department and absent for departments
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class NameMatchDTO {
+    private UUID id;
+    private String name;
+    private UUID parentId;
+    private double score;
+}
@@ -0,0 +1,20 @@
+package organizationmanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * One page of name matches, prefix matches first and then by similarity
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class NameSearchResultDTO {
+    private List<NameMatchDTO> items;
+    private int page;
+    private int size;
+    private boolean hasMore;
+}
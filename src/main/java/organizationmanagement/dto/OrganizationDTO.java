@@ -1,7 +1,10 @@
 package organizationmanagement.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 import java.util.UUID;
 
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class OrganizationDTO {
     private UUID id;
     private String name;
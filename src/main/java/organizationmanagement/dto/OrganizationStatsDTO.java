@@ -0,0 +1,24 @@
+package organizationmanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Unit counts and distinct member/survey totals of an organization, with per-department and per-team breakdowns
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrganizationStatsDTO {
+    private UUID organizationId;
+    private String name;
+    private int departmentCount;
+    private int teamCount;
+    private long totalMemberCount;
+    private long totalSurveyCount;
+    private List<DepartmentStatsDTO> departments;
+}
@@ -0,0 +1,26 @@
+package organizationmanagement.dto;
+
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * An outbox event as handed to consumers; ids increase in the order the changes were written
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OutboxMessageDTO {
+    private Long id;
+    private String aggregateType;
+    private UUID aggregateId;
+    private UUID organizationId;
+    private String eventType;
+    @JsonRawValue
+    private String payload;
+    private Instant createdAt;
+}
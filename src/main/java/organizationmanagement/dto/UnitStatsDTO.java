@@ -0,0 +1,20 @@
+package organizationmanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * Direct member and survey counts of a team
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UnitStatsDTO {
+    private UUID id;
+    private String name;
+    private long memberCount;
+    private long surveyCount;
+}
@@ -0,0 +1,19 @@
+package organizationmanagement.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_EMPTY)
+public class UserMembershipDTO {
+    private List<UUID> teamIds = new ArrayList<>();
+    private List<UUID> departmentIds = new ArrayList<>();
+}
@@ -0,0 +1,48 @@
+package organizationmanagement.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+import organizationmanagement.model.Department;
+import organizationmanagement.model.Organization;
+import organizationmanagement.model.Team;
+
+import java.util.UUID;
+
+/**
+ * Published by the service layer for every structural change, inside the mutating transaction.
+ * Carries a snapshot of the fields that in-memory views need, so listeners never touch the entity.
+ */
+@Getter
+@ToString
+@RequiredArgsConstructor
+public class EntityChangeEvent {
+
+    public enum EntityType { ORGANIZATION, DEPARTMENT, TEAM }
+
+    // BULK_CHANGED: many units of the organization changed at once (import, chunked delete); listeners reload it
+    public enum ChangeType { CREATED, UPDATED, DELETED, BULK_CHANGED }
+
+    private final EntityType entityType;
+    private final ChangeType changeType;
+    private final UUID organizationId;
+    private final UUID entityId;
+    private final UUID parentId; // department of a team, null otherwise
+    private final String name;
+
+    public static EntityChangeEvent of(Organization org, ChangeType changeType) {
+        return new EntityChangeEvent(EntityType.ORGANIZATION, changeType, org.getId(), org.getId(), null, org.getName());
+    }
+
+    public static EntityChangeEvent of(Department dept, ChangeType changeType) {
+        UUID organizationId = dept.getOrganization() != null ? dept.getOrganization().getId() : null;
+        return new EntityChangeEvent(EntityType.DEPARTMENT, changeType, organizationId, dept.getId(), null, dept.getName());
+    }
+
+    public static EntityChangeEvent of(Team team, ChangeType changeType) {
+        Department dept = team.getDepartment();
+        UUID departmentId = dept != null ? dept.getId() : null;
+        UUID organizationId = dept != null && dept.getOrganization() != null ? dept.getOrganization().getId() : null;
+        return new EntityChangeEvent(EntityType.TEAM, changeType, organizationId, team.getId(), departmentId, team.getName());
+    }
+}
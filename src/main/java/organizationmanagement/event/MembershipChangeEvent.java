@@ -0,0 +1,28 @@
+package organizationmanagement.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.util.UUID;
+
+/**
+ * Published by the service layer when a user or survey is attached to or detached from a unit,
+ * inside the mutating transaction. Bulk survey rollouts are reported once per organization.
+ */
+@Getter
+@ToString
+@RequiredArgsConstructor
+public class MembershipChangeEvent {
+
+    public enum MemberType { USER, SURVEY }
+
+    public enum ChangeType { ADDED, REMOVED }
+
+    private final EntityChangeEvent.EntityType unitType;
+    private final ChangeType changeType;
+    private final MemberType memberType;
+    private final UUID organizationId;
+    private final UUID unitId;
+    private final UUID memberId;
+}
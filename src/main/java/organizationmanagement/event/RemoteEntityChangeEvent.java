@@ -0,0 +1,28 @@
+package organizationmanagement.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * A change committed by another replica, received over the cache invalidation bus.
+ * Only identifiers are transported, so in-process caches evict rather than apply it.
+ */
+@Getter
+@ToString
+@RequiredArgsConstructor
+public class RemoteEntityChangeEvent {
+
+    private final EntityChangeEvent change; // null when notifications may have been missed
+
+    public static RemoteEntityChangeEvent resync() {
+        return new RemoteEntityChangeEvent(null);
+    }
+
+    /**
+     * True when this node may have missed notifications and must drop everything it caches
+     */
+    public boolean isResync() {
+        return change == null;
+    }
+}
@@ -1,6 +1,8 @@
 package organizationmanagement.exception;
 
 import feign.FeignException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -46,6 +48,41 @@ public class GlobalExceptionHandler {
         );
     }
 
+    @ExceptionHandler(PreconditionFailedException.class)
+    public ResponseEntity<Object> handlePreconditionFailed(PreconditionFailedException ex) {
+        return buildErrorResponse(ex, HttpStatus.PRECONDITION_FAILED, "Precondition Failed");
+    }
+
+    @ExceptionHandler(ConflictException.class)
+    public ResponseEntity<Object> handleConflict(ConflictException ex) {
+        return buildErrorResponse(ex, HttpStatus.CONFLICT, "Conflict");
+    }
+
+    /**
+     * A concurrent writer committed first (stale @Version); the client should reload and retry
+     */
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<Object> handleOptimisticLockingFailure(OptimisticLockingFailureException ex) {
+        return buildErrorResponse(
+                new ConflictException("The resource was modified concurrently; reload it and retry"),
+                HttpStatus.CONFLICT,
+                "Conflict"
+        );
+    }
+
+    /**
+     * A unique or foreign key constraint rejected the write, e.g. a duplicate name or a unit deleted meanwhile.
+     * The driver message names tables and constraints, so it is not passed on.
+     */
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ResponseEntity<Object> handleDataIntegrityViolation(DataIntegrityViolationException ex) {
+        return buildErrorResponse(
+                new ConflictException("The request conflicts with the current state of the resource"),
+                HttpStatus.CONFLICT,
+                "Conflict"
+        );
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<Object> handleAllExceptions(Exception ex) {
         return buildErrorResponse(
@@ -0,0 +1,253 @@
+package organizationmanagement.filter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import organizationmanagement.security.ClientAddressResolver;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * Idempotency-Key support for the mutating endpoints that gateways retry. The first request with a key runs
+ * normally and its response is stored; retries with the same key and the same request get that response
+ * replayed without touching the services or user-service/survey-service. A key reused for a different request
+ * is rejected with 422, and a retry arriving while the first request still runs gets 409.
+ * <p>
+ * Keys are scoped to the caller (user, or client IP on public routes). Server errors are not stored, so
+ * the retry of a failed request runs again.
+ */
+@Component
+public class IdempotencyFilter extends OncePerRequestFilter {
+    public static final String HEADER = "Idempotency-Key";
+    private static final String REPLAYED_HEADER = "Idempotent-Replayed";
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private static final String[] IDEMPOTENT_ENDPOINTS = {
+            "/api/organizations/register",
+            "/api/teams",
+            "/api/departments",
+            "/api/teams/*/assign-user/*",
+            "/api/departments/*/assign-user/*",
+            "/api/organizations/*/teams/*/assign-user/*",
+            "/api/organizations/*/departments/*/assign-user/*",
+            "/api/organizations/*/teams/*/assign-survey/*",
+            "/api/organizations/*/departments/*/assign-survey/*"
+    };
+
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final IdempotencyStore store;
+    private final ClientAddressResolver clientAddressResolver;
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+
+    public IdempotencyFilter(IdempotencyStore store,
+                             ClientAddressResolver clientAddressResolver,
+                             MeterRegistry meterRegistry,
+                             @Value("${organization.idempotency.enabled:true}") boolean enabled) {
+        this.store = store;
+        this.clientAddressResolver = clientAddressResolver;
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!enabled || !"POST".equals(request.getMethod()) || request.getHeader(HEADER) == null) {
+            return true;
+        }
+        String path = request.getRequestURI();
+        for (String pattern : IDEMPOTENT_ENDPOINTS) {
+            if (pathMatcher.match(pattern, path)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain)
+            throws ServletException, IOException {
+        String key = request.getHeader(HEADER).trim();
+        if (key.isEmpty() || key.length() > MAX_KEY_LENGTH) {
+            writeError(response, HttpServletResponse.SC_BAD_REQUEST, "Bad Request",
+                    HEADER + " must be 1 to " + MAX_KEY_LENGTH + " characters", request);
+            return;
+        }
+
+        CachedBodyRequest cachedRequest = new CachedBodyRequest(request);
+        String id = scope(request) + "|" + key;
+        String requestHash = hash(cachedRequest);
+
+        IdempotencyStore.StoredResponse stored = store.findCompleted(id);
+        if (stored == null && !store.claim(id, requestHash)) {
+            // Lost the race: the other request either finished just now or is still running
+            stored = store.findCompleted(id);
+            if (stored == null) {
+                count("in_progress");
+                response.setHeader("Retry-After", "1");
+                writeError(response, HttpServletResponse.SC_CONFLICT, "Conflict",
+                        "A request with this " + HEADER + " is still being processed", request);
+                return;
+            }
+        }
+        if (stored != null) {
+            replay(stored, requestHash, request, response);
+            return;
+        }
+
+        ContentCachingResponseWrapper cachedResponse = new ContentCachingResponseWrapper(response);
+        boolean completed = false;
+        try {
+            filterChain.doFilter(cachedRequest, cachedResponse);
+            int status = cachedResponse.getStatus();
+            if (status < 500) {
+                store.complete(id, requestHash, status, cachedResponse.getContentType(), cachedResponse.getContentAsByteArray());
+                completed = true;
+                count("stored");
+            }
+        } finally {
+            if (!completed) {
+                store.release(id);
+            }
+            cachedResponse.copyBodyToResponse();
+        }
+    }
+
+    private void replay(IdempotencyStore.StoredResponse stored, String requestHash,
+                        HttpServletRequest request, HttpServletResponse response) throws IOException {
+        if (!stored.requestHash().equals(requestHash)) {
+            count("mismatch");
+            writeError(response, 422, "Unprocessable Entity",
+                    HEADER + " was already used for a different request", request);
+            return;
+        }
+        count("replayed");
+        response.setStatus(stored.statusCode());
+        response.setHeader(REPLAYED_HEADER, "true");
+        if (stored.contentType() != null) {
+            response.setContentType(stored.contentType());
+        }
+        if (stored.body() != null) {
+            response.setContentLength(stored.body().length);
+            response.getOutputStream().write(stored.body());
+        }
+    }
+
+    // Attributes set by GatewayAuthenticationFilter; public routes fall back to the client address
+    private String scope(HttpServletRequest request) {
+        Object username = request.getAttribute("username");
+        if (username != null) {
+            return "user:" + username;
+        }
+        return "ip:" + clientAddressResolver.resolve(request);
+    }
+
+    private String hash(CachedBodyRequest request) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update((request.getMethod() + " " + request.getRequestURI()).getBytes(StandardCharsets.UTF_8));
+            if (request.getQueryString() != null) {
+                digest.update(("?" + request.getQueryString()).getBytes(StandardCharsets.UTF_8));
+            }
+            digest.update((byte) 0);
+            digest.update(request.body);
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private void writeError(HttpServletResponse response, int status, String error, String message,
+                            HttpServletRequest request) throws IOException {
+        response.setStatus(status);
+        response.setContentType("application/json");
+        response.getWriter().write(
+                String.format("{\"error\": \"%s\", \"message\": \"%s\", \"path\": \"%s\"}",
+                        error, message, request.getRequestURI())
+        );
+    }
+
+    private void count(String outcome) {
+        Counter.builder("organization.idempotency")
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    /**
+     * The request body has to be hashed before the controller reads it, so it is buffered once up front
+     */
+    private static final class CachedBodyRequest extends HttpServletRequestWrapper {
+        private final byte[] body;
+
+        private CachedBodyRequest(HttpServletRequest request) throws IOException {
+            super(request);
+            this.body = StreamUtils.copyToByteArray(request.getInputStream());
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream input = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return input.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                // The whole body is already in memory, so a non-blocking reader gets it in one callback
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    try {
+                        readListener.onDataAvailable();
+                        readListener.onAllDataRead();
+                    } catch (IOException e) {
+                        readListener.onError(e);
+                    }
+                }
+
+                @Override
+                public int read() {
+                    return input.read();
+                }
+
+                @Override
+                public int read(byte[] buffer, int offset, int length) {
+                    return input.read(buffer, offset, length);
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            Charset charset = getCharacterEncoding() != null ? Charset.forName(getCharacterEncoding()) : StandardCharsets.UTF_8;
+            return new BufferedReader(new InputStreamReader(getInputStream(), charset));
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package organizationmanagement.filter;
+
+import lombok.extern.slf4j.Slf4j;
+import organizationmanagement.model.IdempotencyRecord;
+import organizationmanagement.repository.IdempotencyRecordRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Stored first responses per idempotency key: the idempotency_record table shared by all replicas, fronted
+ * by a small LRU of completed responses, which never change once written.
+ */
+@Slf4j
+@Component
+public class IdempotencyStore {
+
+    public record StoredResponse(String requestHash, int statusCode, String contentType, byte[] body, Instant expiresAt) {
+    }
+
+    private final IdempotencyRecordRepository repository;
+    private final Duration retention;
+    private final Duration inProgressTimeout;
+    private final Map<String, StoredResponse> recent;
+
+    public IdempotencyStore(IdempotencyRecordRepository repository,
+                            @Value("${organization.idempotency.retention:PT24H}") Duration retention,
+                            @Value("${organization.idempotency.in-progress-timeout:PT1M}") Duration inProgressTimeout,
+                            @Value("${organization.idempotency.cache-size:10000}") int cacheSize) {
+        this.repository = repository;
+        this.retention = retention;
+        this.inProgressTimeout = inProgressTimeout;
+        this.recent = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, StoredResponse> eldest) {
+                return size() > cacheSize;
+            }
+        };
+    }
+
+    /**
+     * The completed response for the key, or null when there is none yet
+     */
+    public StoredResponse findCompleted(String id) {
+        synchronized (recent) {
+            StoredResponse cached = recent.get(id);
+            if (cached != null && cached.expiresAt().isAfter(Instant.now())) {
+                return cached;
+            }
+        }
+        IdempotencyRecord record = repository.findById(id).orElse(null);
+        if (record == null || record.getStatusCode() == null || record.getExpiresAt().isBefore(Instant.now())) {
+            return null;
+        }
+        StoredResponse stored = new StoredResponse(record.getRequestHash(), record.getStatusCode(),
+                record.getContentType(), record.getBody(), record.getExpiresAt());
+        remember(id, stored);
+        return stored;
+    }
+
+    /**
+     * Take ownership of the key; false while another request with the same key is running or already finished
+     */
+    @Transactional
+    public boolean claim(String id, String requestHash) {
+        Instant now = Instant.now();
+        return repository.claim(id, requestHash, now.plus(retention), now.minus(inProgressTimeout)) > 0;
+    }
+
+    @Transactional
+    public void complete(String id, String requestHash, int statusCode, String contentType, byte[] body) {
+        if (repository.complete(id, statusCode, contentType, body) > 0) {
+            remember(id, new StoredResponse(requestHash, statusCode, contentType, body, Instant.now().plus(retention)));
+        }
+    }
+
+    /**
+     * Give the key up after a failure, so the client's retry runs the request again
+     */
+    @Transactional
+    public void release(String id) {
+        repository.release(id);
+    }
+
+    @Scheduled(cron = "${organization.idempotency.purge-cron:0 15 * * * *}")
+    @Transactional
+    public void purgeExpired() {
+        int deleted = repository.deleteExpired();
+        log.debug("Purged {} expired idempotency records", deleted);
+    }
+
+    private void remember(String id, StoredResponse stored) {
+        synchronized (recent) {
+            recent.put(id, stored);
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package organizationmanagement.job;
+
+/**
+ * Thrown from {@link JobContext#checkpoint} once cancellation was requested, to unwind the handler
+ */
+public class JobCancelledException extends RuntimeException {
+    public JobCancelledException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,67 @@
+package organizationmanagement.job;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import organizationmanagement.model.Job;
+import organizationmanagement.repository.JobRepository;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.UUID;
+
+/**
+ * A running job as seen by its handler: parameters, the last checkpoint, and progress reporting
+ */
+public class JobContext {
+    private final UUID jobId;
+    private final UUID organizationId;
+    private final String owner;
+    private final JsonNode params;
+    private String checkpoint;
+    private final JobRepository jobRepository;
+    private final TransactionTemplate transaction;
+    private final ObjectMapper objectMapper;
+
+    JobContext(Job job, String owner, JobRepository jobRepository, TransactionTemplate transaction, ObjectMapper objectMapper)
+            throws JsonProcessingException {
+        this.jobId = job.getId();
+        this.organizationId = job.getOrganizationId();
+        this.owner = owner;
+        this.params = job.getParams() != null ? objectMapper.readTree(job.getParams()) : objectMapper.createObjectNode();
+        this.checkpoint = job.getCheckpoint();
+        this.jobRepository = jobRepository;
+        this.transaction = transaction;
+        this.objectMapper = objectMapper;
+    }
+
+    public UUID getJobId() { return jobId; }
+
+    public UUID getOrganizationId() { return organizationId; }
+
+    /**
+     * The value passed to the last {@link #checkpoint} call, or null when the job starts from scratch
+     */
+    public String getCheckpoint() { return checkpoint; }
+
+    public <T> T param(String name, Class<T> type) throws JsonProcessingException {
+        JsonNode value = params.get(name);
+        return value != null && !value.isNull() ? objectMapper.treeToValue(value, type) : null;
+    }
+
+    /**
+     * Persist the resume point and progress, then stop the handler if cancellation was requested.
+     * Joins the caller's transaction when there is one, so a chunk and its checkpoint commit together.
+     */
+    public void checkpoint(String checkpoint, long done, Long total) {
+        Boolean cancelRequested = transaction.execute(status -> {
+            if (jobRepository.saveProgress(jobId, owner, checkpoint, done, total) == 0) {
+                throw new JobCancelledException("Job " + jobId + " is no longer owned by this node");
+            }
+            return jobRepository.isCancelRequested(jobId);
+        });
+        this.checkpoint = checkpoint;
+        if (Boolean.TRUE.equals(cancelRequested)) {
+            throw new JobCancelledException("Job " + jobId + " was cancelled");
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package organizationmanagement.job;
+
+/**
+ * Runs one type of background job. A handler may be invoked again for a job it already started
+ * (after a restart or a lost heartbeat), so it must resume from {@link JobContext#getCheckpoint()}
+ * and any work done after the last checkpoint must be safe to repeat.
+ */
+public interface JobHandler {
+
+    String type();
+
+    /**
+     * @return the job result, stored as JSON; may be null
+     */
+    Object run(JobContext context) throws Exception;
+}
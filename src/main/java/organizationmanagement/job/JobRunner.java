@@ -0,0 +1,157 @@
+package organizationmanagement.job;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import organizationmanagement.model.Job;
+import organizationmanagement.model.JobStatus;
+import organizationmanagement.repository.JobRepository;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Claims runnable jobs from the job table and runs them on a bounded worker pool.
+ * Only as many jobs are claimed as there are idle workers, so queued work waits in the table, not in memory,
+ * and any replica can pick it up. Running jobs heartbeat; a job whose node died is claimed again once stale.
+ */
+@Slf4j
+@Component
+public class JobRunner {
+    private final JobRepository jobRepository;
+    private final ObjectProvider<JobHandler> handlerProvider;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transaction;
+    private final TransactionTemplate claimTransaction;
+    private final ExecutorService workers;
+    private final int workerCount;
+    private final Duration staleAfter;
+    private final String owner = UUID.randomUUID().toString();
+    private final Set<UUID> running = ConcurrentHashMap.newKeySet();
+
+    // Resolved on first use: handlers depend on services that in turn submit jobs
+    private volatile Map<String, JobHandler> handlers;
+
+    public JobRunner(JobRepository jobRepository,
+                     ObjectProvider<JobHandler> handlerProvider,
+                     ObjectMapper objectMapper,
+                     PlatformTransactionManager transactionManager,
+                     @Value("${organization.jobs.workers:2}") int workerCount,
+                     @Value("${organization.jobs.stale-after:PT2M}") Duration staleAfter) {
+        this.jobRepository = jobRepository;
+        this.handlerProvider = handlerProvider;
+        this.objectMapper = objectMapper;
+        this.transaction = new TransactionTemplate(transactionManager);
+        // dispatch() also runs from afterCommit callbacks, where REQUIRED would join the finished transaction
+        this.claimTransaction = new TransactionTemplate(transactionManager);
+        this.claimTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.workerCount = workerCount;
+        this.staleAfter = staleAfter;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(workerCount, runnable -> {
+            Thread thread = new Thread(runnable, "job-worker-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public boolean supports(String type) {
+        return handlers().containsKey(type);
+    }
+
+    @Scheduled(fixedDelayString = "${organization.jobs.poll-interval-ms:2000}")
+    public synchronized void dispatch() {
+        int idle = workerCount - running.size();
+        if (idle <= 0) {
+            return;
+        }
+        List<UUID> claimed = claimTransaction.execute(status -> {
+            List<UUID> ids = jobRepository.lockRunnable(Instant.now().minus(staleAfter), idle);
+            if (!ids.isEmpty()) {
+                jobRepository.markRunning(ids, owner);
+            }
+            return ids;
+        });
+        for (UUID id : claimed != null ? claimed : Collections.<UUID>emptyList()) {
+            running.add(id);
+            workers.execute(() -> run(id));
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${organization.jobs.heartbeat-interval-ms:15000}")
+    public void heartbeat() {
+        if (!running.isEmpty()) {
+            transaction.executeWithoutResult(status -> jobRepository.heartbeat(Set.copyOf(running), owner));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // Interrupted jobs stay RUNNING and are resumed from their checkpoint once their heartbeat is stale
+        workers.shutdownNow();
+    }
+
+    private void run(UUID id) {
+        try {
+            Job job = jobRepository.findById(id).orElse(null);
+            if (job == null) {
+                return;
+            }
+            if (job.isCancelRequested()) {
+                finish(id, JobStatus.CANCELLED, null, null);
+                return;
+            }
+            JobHandler handler = handlers().get(job.getType());
+            if (handler == null) {
+                finish(id, JobStatus.FAILED, null, "No handler for job type " + job.getType());
+                return;
+            }
+            log.info("Running job {} ({}){}", id, job.getType(), job.getCheckpoint() != null ? " from checkpoint" : "");
+            Object result = handler.run(new JobContext(job, owner, jobRepository, transaction, objectMapper));
+            finish(id, JobStatus.SUCCEEDED, result != null ? objectMapper.writeValueAsString(result) : null, null);
+        } catch (JobCancelledException e) {
+            log.info("Job {} stopped: {}", id, e.getMessage());
+            finish(id, JobStatus.CANCELLED, null, null);
+        } catch (Exception e) {
+            log.warn("Job {} failed: {}", id, e.getMessage(), e);
+            finish(id, JobStatus.FAILED, null, e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName());
+        } finally {
+            running.remove(id);
+        }
+    }
+
+    private void finish(UUID id, JobStatus status, String result, String error) {
+        try {
+            transaction.executeWithoutResult(tx -> jobRepository.finish(id, owner, status.name(), result, error));
+        } catch (RuntimeException e) {
+            log.warn("Could not record outcome {} of job {}: {}", status, id, e.getMessage());
+        }
+    }
+
+    private Map<String, JobHandler> handlers() {
+        Map<String, JobHandler> resolved = handlers;
+        if (resolved == null) {
+            resolved = handlerProvider.orderedStream().collect(Collectors.toUnmodifiableMap(JobHandler::type, Function.identity()));
+            handlers = resolved;
+        }
+        return resolved;
+    }
+}
@@ -0,0 +1,85 @@
+package organizationmanagement.job;
+
+import organizationmanagement.event.EntityChangeEvent;
+import organizationmanagement.model.Organization;
+import organizationmanagement.repository.OrganizationRepository;
+import organizationmanagement.service.impl.OrganizationDeletion;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.ToIntFunction;
+
+/**
+ * Offboards a large tenant one chunk per transaction, so no statement holds locks on more than a chunk of rows.
+ * The checkpoint is the number of units deleted so far; deletes are idempotent, so a resumed job just carries on.
+ */
+@Component
+public class OrganizationDeleteJobHandler implements JobHandler {
+    public static final String TYPE = "ORGANIZATION_DELETE";
+
+    private final OrganizationRepository organizationRepository;
+    private final OrganizationDeletion organizationDeletion;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transaction;
+
+    public OrganizationDeleteJobHandler(OrganizationRepository organizationRepository,
+                                        OrganizationDeletion organizationDeletion,
+                                        ApplicationEventPublisher eventPublisher,
+                                        PlatformTransactionManager transactionManager) {
+        this.organizationRepository = organizationRepository;
+        this.organizationDeletion = organizationDeletion;
+        this.eventPublisher = eventPublisher;
+        this.transaction = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    public String type() {
+        return TYPE;
+    }
+
+    @Override
+    public Object run(JobContext context) {
+        UUID organizationId = context.getOrganizationId();
+        long done = context.getCheckpoint() != null ? Long.parseLong(context.getCheckpoint()) : 0;
+        long total = done + organizationRepository.countUnitsByOrganizationId(organizationId);
+
+        done = deleteInChunks(context, organizationDeletion::deleteTeamChunk, done, total);
+        done = deleteInChunks(context, organizationDeletion::deleteDepartmentChunk, done, total);
+
+        // Units created while the job ran are swept up together with the organization row
+        transaction.executeWithoutResult(status -> {
+            Organization org = organizationRepository.findById(organizationId).orElse(null);
+            if (org != null) {
+                organizationDeletion.deleteOrganization(organizationId);
+                eventPublisher.publishEvent(EntityChangeEvent.of(org, EntityChangeEvent.ChangeType.DELETED));
+            }
+        });
+        return Map.of("organizationId", organizationId, "unitsDeleted", done);
+    }
+
+    private long deleteInChunks(JobContext context, ToIntFunction<UUID> deleteChunk, long done, long total) {
+        UUID organizationId = context.getOrganizationId();
+        long deletedSoFar = done;
+        while (true) {
+            long before = deletedSoFar;
+            Integer deleted = transaction.execute(status -> {
+                int count = deleteChunk.applyAsInt(organizationId);
+                if (count > 0) {
+                    // Committed with the chunk: caches and consumers drop the tenant, the checkpoint moves on
+                    eventPublisher.publishEvent(new EntityChangeEvent(EntityChangeEvent.EntityType.ORGANIZATION,
+                            EntityChangeEvent.ChangeType.BULK_CHANGED, organizationId, organizationId, null, null));
+                    context.checkpoint(String.valueOf(before + count), before + count, Math.max(total, before + count));
+                }
+                return count;
+            });
+            if (deleted == null || deleted == 0) {
+                return deletedSoFar;
+            }
+            deletedSoFar += deleted;
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package organizationmanagement.job;
+
+import lombok.RequiredArgsConstructor;
+import organizationmanagement.dto.BulkSurveyAssignmentDTO;
+import organizationmanagement.service.SurveyAssignmentService;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * Background variant of the bulk survey rollout. The assignment is one set-based transaction that skips
+ * existing rows, so a resumed job simply runs it again.
+ */
+@Component
+@RequiredArgsConstructor
+public class SurveyBulkAssignmentJobHandler implements JobHandler {
+    public static final String TYPE = "SURVEY_BULK_ASSIGNMENT";
+
+    private final SurveyAssignmentService surveyAssignmentService;
+
+    @Override
+    public String type() {
+        return TYPE;
+    }
+
+    @Override
+    public Object run(JobContext context) throws Exception {
+        UUID surveyId = context.param("surveyId", UUID.class);
+        BulkSurveyAssignmentDTO request = context.param("request", BulkSurveyAssignmentDTO.class);
+        return surveyAssignmentService.assignSurveyInBulk(surveyId, request, context.getOrganizationId());
+    }
+}
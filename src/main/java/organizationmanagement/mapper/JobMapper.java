@@ -0,0 +1,24 @@
+package organizationmanagement.mapper;
+
+import organizationmanagement.dto.JobDTO;
+import organizationmanagement.model.Job;
+
+public class JobMapper {
+    public static JobDTO toDTO(Job job) {
+        if (job == null) return null;
+        JobDTO dto = new JobDTO();
+        dto.setId(job.getId());
+        dto.setType(job.getType());
+        dto.setOrganizationId(job.getOrganizationId());
+        dto.setStatus(job.getStatus());
+        dto.setProgressDone(job.getProgressDone());
+        dto.setProgressTotal(job.getProgressTotal());
+        dto.setResult(job.getResult());
+        dto.setError(job.getError());
+        dto.setCancelRequested(job.isCancelRequested());
+        dto.setCreatedAt(job.getCreatedAt());
+        dto.setStartedAt(job.getStartedAt());
+        dto.setFinishedAt(job.getFinishedAt());
+        return dto;
+    }
+}
@@ -0,0 +1,12 @@
+package organizationmanagement.mapper;
+
+import organizationmanagement.dto.OutboxMessageDTO;
+import organizationmanagement.model.OutboxEvent;
+
+public class OutboxEventMapper {
+    public static OutboxMessageDTO toDTO(OutboxEvent event) {
+        if (event == null) return null;
+        return new OutboxMessageDTO(event.getId(), event.getAggregateType(), event.getAggregateId(),
+                event.getOrganizationId(), event.getEventType(), event.getPayload(), event.getCreatedAt());
+    }
+}
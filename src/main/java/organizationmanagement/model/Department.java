@@ -21,6 +21,9 @@ public class Department {
 
     private String name;
 
+    @Version
+    private Long version;
+
     @ManyToOne
     @JoinColumn(name = "organization_id")
     private Organization organization;
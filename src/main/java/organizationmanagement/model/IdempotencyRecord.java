@@ -0,0 +1,40 @@
+package organizationmanagement.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+@Entity
+@Table(name = "idempotency_record")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class IdempotencyRecord {
+
+    /**
+     * Caller scope and client key, e.g. "user:alice|3f2a..."
+     */
+    @Id
+    @Column(length = 400)
+    private String id;
+
+    @Column(nullable = false, length = 64)
+    private String requestHash;
+
+    /**
+     * Null while the first request is still running
+     */
+    private Integer statusCode;
+
+    private String contentType;
+
+    private byte[] body;
+
+    @Column(nullable = false)
+    private Instant createdAt;
+
+    @Column(nullable = false)
+    private Instant expiresAt;
+}
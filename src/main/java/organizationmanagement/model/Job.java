@@ -0,0 +1,61 @@
+package organizationmanagement.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Entity
+@Table(name = "job")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class Job {
+
+    @Id
+    @GeneratedValue
+    @Column(columnDefinition = "uuid", updatable = false, nullable = false)
+    private UUID id;
+
+    @Column(nullable = false, length = 64)
+    private String type;
+
+    @Column(columnDefinition = "uuid")
+    private UUID organizationId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private JobStatus status;
+
+    @Column(columnDefinition = "text")
+    private String params;
+
+    @Column(columnDefinition = "text")
+    private String checkpoint;
+
+    private long progressDone;
+
+    private Long progressTotal;
+
+    @Column(columnDefinition = "text")
+    private String result;
+
+    @Column(columnDefinition = "text")
+    private String error;
+
+    private boolean cancelRequested;
+
+    @Column(length = 64)
+    private String owner;
+
+    @Column(nullable = false)
+    private Instant createdAt;
+
+    private Instant startedAt;
+
+    private Instant heartbeatAt;
+
+    private Instant finishedAt;
+}
@@ -24,6 +24,9 @@ public class Organization {
 
     private String name;
 
+    @Version
+    private Long version;
+
     @OneToMany(mappedBy = "organization", cascade = CascadeType.PERSIST, orphanRemoval = true)
     @JsonIgnore
     private List<Department> departments = new ArrayList<>();
@@ -20,10 +20,17 @@ public class Team {
 
     private String name;
 
+    @Version
+    private Long version;
+
     @ManyToOne
     @JoinColumn(name = "department_id")
     private Department department;
 
+    // Copy of the department's organization: partition key and org filter without the join
+    @Column(name = "organization_id")
+    private UUID organizationId;
+
     @ElementCollection
     @CollectionTable(name = "team_users", joinColumns = @JoinColumn(name = "team_id"))
     @Column(name = "user_id")
@@ -37,5 +44,8 @@ public class Team {
     public String getName() { return name; }
     public void setName(String name) { this.name = name; }
     public Department getDepartment() { return department; }
-    public void setDepartment(Department department) { this.department = department; }
+    public void setDepartment(Department department) {
+        this.department = department;
+        this.organizationId = department != null && department.getOrganization() != null ? department.getOrganization().getId() : null;
+    }
 }
\ No newline at end of file
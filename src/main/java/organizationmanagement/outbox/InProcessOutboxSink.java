@@ -0,0 +1,24 @@
+package organizationmanagement.outbox;
+
+import lombok.RequiredArgsConstructor;
+import organizationmanagement.dto.OutboxMessageDTO;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Re-publishes every relayed message as an application event, for listeners living in this service
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "organization.outbox.sink", havingValue = "in-process", matchIfMissing = true)
+public class InProcessOutboxSink implements OutboxSink {
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Override
+    public void publish(List<OutboxMessageDTO> messages) {
+        messages.forEach(eventPublisher::publishEvent);
+    }
+}
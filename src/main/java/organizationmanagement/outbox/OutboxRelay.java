@@ -0,0 +1,78 @@
+package organizationmanagement.outbox;
+
+import lombok.extern.slf4j.Slf4j;
+import organizationmanagement.mapper.OutboxEventMapper;
+import organizationmanagement.model.OutboxEvent;
+import organizationmanagement.repository.OutboxEventRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Moves committed outbox rows to the {@link OutboxSink} in id-ordered batches.
+ * A batch is locked, delivered and marked published in one transaction, so a failed delivery
+ * simply leaves it pending; SKIP LOCKED lets several replicas relay side by side.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "organization.outbox.relay.enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxRelay {
+    // Bounds one run so a large backlog cannot hold the scheduler thread indefinitely
+    private static final int MAX_BATCHES_PER_RUN = 20;
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxSink outboxSink;
+    private final TransactionTemplate transaction;
+    private final int batchSize;
+    private final Duration retention;
+
+    public OutboxRelay(OutboxEventRepository outboxEventRepository,
+                       OutboxSink outboxSink,
+                       PlatformTransactionManager transactionManager,
+                       @Value("${organization.outbox.relay.batch-size:200}") int batchSize,
+                       @Value("${organization.outbox.retention:P7D}") Duration retention) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.outboxSink = outboxSink;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.retention = retention;
+    }
+
+    @Scheduled(fixedDelayString = "${organization.outbox.relay.interval-ms:1000}")
+    public void relay() {
+        try {
+            for (int i = 0; i < MAX_BATCHES_PER_RUN; i++) {
+                Integer relayed = transaction.execute(status -> relayBatch());
+                if (relayed == null || relayed < batchSize) {
+                    return;
+                }
+            }
+        } catch (RuntimeException e) {
+            log.warn("Outbox relay failed, pending events will be retried: {}", e.getMessage());
+        }
+    }
+
+    @Scheduled(cron = "${organization.outbox.purge-cron:0 30 * * * *}")
+    public void purgePublished() {
+        Integer deleted = transaction.execute(status -> outboxEventRepository.deletePublishedBefore(Instant.now().minus(retention)));
+        log.debug("Purged {} published outbox events older than {}", deleted, retention);
+    }
+
+    private int relayBatch() {
+        List<OutboxEvent> batch = outboxEventRepository.lockPending(batchSize);
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        outboxSink.publish(batch.stream().map(OutboxEventMapper::toDTO).toList());
+        outboxEventRepository.markPublished(batch.stream().map(OutboxEvent::getId).toList());
+        log.debug("Relayed {} outbox events up to id {}", batch.size(), batch.get(batch.size() - 1).getId());
+        return batch.size();
+    }
+}
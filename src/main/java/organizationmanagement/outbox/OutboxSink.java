@@ -0,0 +1,14 @@
+package organizationmanagement.outbox;
+
+import organizationmanagement.dto.OutboxMessageDTO;
+
+import java.util.List;
+
+/**
+ * Destination of relayed outbox events. Delivery is at-least-once: throwing leaves the whole batch
+ * pending and it is offered again, so consumers must de-duplicate on the message id.
+ */
+public interface OutboxSink {
+
+    void publish(List<OutboxMessageDTO> messages);
+}
@@ -0,0 +1,68 @@
+package organizationmanagement.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import organizationmanagement.event.EntityChangeEvent;
+import organizationmanagement.event.MembershipChangeEvent;
+import organizationmanagement.model.OutboxEvent;
+import organizationmanagement.repository.OutboxEventRepository;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Turns domain events into outbox rows. A plain {@link EventListener} runs synchronously in the publishing
+ * thread, so the row joins the mutating transaction and is committed or rolled back together with it.
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboxWriter {
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+
+    @EventListener
+    public void onEntityChange(EntityChangeEvent event) {
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("id", event.getEntityId());
+        payload.put("organizationId", event.getOrganizationId());
+        if (event.getParentId() != null) {
+            payload.put("departmentId", event.getParentId());
+        }
+        if (event.getName() != null) {
+            payload.put("name", event.getName());
+        }
+        write(event.getEntityType().name(), event.getEntityId(), event.getOrganizationId(),
+                event.getEntityType() + "_" + event.getChangeType(), payload);
+    }
+
+    @EventListener
+    public void onMembershipChange(MembershipChangeEvent event) {
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("id", event.getUnitId());
+        payload.put("organizationId", event.getOrganizationId());
+        payload.put(event.getMemberType() == MembershipChangeEvent.MemberType.USER ? "userId" : "surveyId", event.getMemberId());
+        write(event.getUnitType().name(), event.getUnitId(), event.getOrganizationId(),
+                event.getUnitType() + "_" + event.getMemberType() + "_" + event.getChangeType(), payload);
+    }
+
+    private void write(String aggregateType, UUID aggregateId, UUID organizationId,
+                       String eventType, Map<String, Object> payload) {
+        try {
+            outboxEventRepository.save(OutboxEvent.builder()
+                    .aggregateType(aggregateType)
+                    .aggregateId(aggregateId)
+                    .organizationId(organizationId)
+                    .eventType(eventType)
+                    .payload(objectMapper.writeValueAsString(payload))
+                    .createdAt(Instant.now())
+                    .build());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize outbox payload for " + eventType, e);
+        }
+    }
+}
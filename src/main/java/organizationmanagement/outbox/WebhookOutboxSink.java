@@ -0,0 +1,29 @@
+package organizationmanagement.outbox;
+
+import feign.FeignException;
+import lombok.RequiredArgsConstructor;
+import organizationmanagement.client.OutboxWebhookClient;
+import organizationmanagement.dto.OutboxMessageDTO;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * POSTs each batch as one JSON array to the configured webhook; any non-2xx answer fails the batch
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "organization.outbox.sink", havingValue = "webhook")
+public class WebhookOutboxSink implements OutboxSink {
+    private final OutboxWebhookClient outboxWebhookClient;
+
+    @Override
+    public void publish(List<OutboxMessageDTO> messages) {
+        try {
+            outboxWebhookClient.deliver(messages);
+        } catch (FeignException e) {
+            throw new IllegalStateException("Outbox webhook rejected a batch of " + messages.size() + " events: " + e.status(), e);
+        }
+    }
+}
@@ -2,9 +2,11 @@ package organizationmanagement.repository;
 
 import organizationmanagement.model.Department;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -20,7 +22,93 @@ public interface DepartmentRepository extends JpaRepository<Department, UUID> {
     @Query("SELECT d FROM Department d WHERE d.id = :id AND d.organization.id = :organizationId")
     Optional<Department> findByIdAndOrganizationId(@Param("id") UUID id, @Param("organizationId") UUID organizationId);
 
+    @Query("SELECT COUNT(d) > 0 FROM Department d WHERE d.id = :id AND d.organization.id = :organizationId")
+    boolean existsByIdAndOrganizationId(@Param("id") UUID id, @Param("organizationId") UUID organizationId);
+
+    // Single-row membership writes: idempotent and free of lost updates; each returns the number of rows changed
+    @Modifying
+    @Query(value = "INSERT INTO department_users (organization_id, department_id, user_id) " +
+            "VALUES (:organizationId, :departmentId, :userId) ON CONFLICT DO NOTHING", nativeQuery = true)
+    int addUser(@Param("organizationId") UUID organizationId, @Param("departmentId") UUID departmentId, @Param("userId") UUID userId);
+
+    @Modifying
+    @Query(value = "DELETE FROM department_users " +
+            "WHERE organization_id = :organizationId AND department_id = :departmentId AND user_id = :userId", nativeQuery = true)
+    int removeUser(@Param("organizationId") UUID organizationId, @Param("departmentId") UUID departmentId, @Param("userId") UUID userId);
+
+    @Modifying
+    @Query(value = "INSERT INTO department_surveys (organization_id, department_id, survey_id) " +
+            "VALUES (:organizationId, :departmentId, :surveyId) ON CONFLICT DO NOTHING", nativeQuery = true)
+    int addSurvey(@Param("organizationId") UUID organizationId, @Param("departmentId") UUID departmentId, @Param("surveyId") UUID surveyId);
+
+    @Modifying
+    @Query(value = "DELETE FROM department_surveys " +
+            "WHERE organization_id = :organizationId AND department_id = :departmentId AND survey_id = :surveyId", nativeQuery = true)
+    int removeSurvey(@Param("organizationId") UUID organizationId, @Param("departmentId") UUID departmentId, @Param("surveyId") UUID surveyId);
+
     // New method: Check if department name exists in organization excluding a specific ID (for updates)
     @Query("SELECT COUNT(d) > 0 FROM Department d WHERE d.name = :name AND d.organization.id = :organizationId AND d.id != :excludeId")
     boolean existsByNameAndOrganizationIdAndIdNot(@Param("name") String name, @Param("organizationId") UUID organizationId, @Param("excludeId") UUID excludeId);
+
+    // (id, name) of every department in an organization, for the in-memory hierarchy
+    @Query("SELECT d.id, d.name FROM Department d WHERE d.organization.id = :organizationId")
+    List<Object[]> findTreeRowsByOrganizationId(@Param("organizationId") UUID organizationId);
+
+    // (id, name, similarity) of departments matching the LIKE prefix or similar to the query, prefix matches first
+    @Query(value = "SELECT d.id, d.name, similarity(lower(d.name), :query) AS score FROM department d " +
+            "WHERE d.organization_id = :organizationId AND (lower(d.name) LIKE :prefix OR lower(d.name) % :query) " +
+            "ORDER BY lower(d.name) LIKE :prefix DESC, score DESC, lower(d.name), d.id " +
+            "LIMIT :limit OFFSET :offset", nativeQuery = true)
+    List<Object[]> searchByName(@Param("organizationId") UUID organizationId,
+                                @Param("query") String query,
+                                @Param("prefix") String prefix,
+                                @Param("limit") int limit,
+                                @Param("offset") int offset);
+
+    // ===== SET-BASED DELETES =====
+
+    @Query(value = "SELECT d.id FROM department d WHERE d.organization_id = :organizationId LIMIT :limit", nativeQuery = true)
+    List<UUID> findIdsByOrganizationId(@Param("organizationId") UUID organizationId, @Param("limit") int limit);
+
+    @Modifying(clearAutomatically = true)
+    @Query(value = "DELETE FROM department_users WHERE organization_id = :organizationId AND department_id IN (:departmentIds)",
+            nativeQuery = true)
+    int deleteUsersByDepartmentIds(@Param("organizationId") UUID organizationId, @Param("departmentIds") Collection<UUID> departmentIds);
+
+    @Modifying(clearAutomatically = true)
+    @Query(value = "DELETE FROM department_surveys WHERE organization_id = :organizationId AND department_id IN (:departmentIds)",
+            nativeQuery = true)
+    int deleteSurveysByDepartmentIds(@Param("organizationId") UUID organizationId, @Param("departmentIds") Collection<UUID> departmentIds);
+
+    @Modifying(clearAutomatically = true)
+    @Query(value = "DELETE FROM department WHERE organization_id = :organizationId AND id IN (:departmentIds)", nativeQuery = true)
+    int deleteDepartmentsByIds(@Param("organizationId") UUID organizationId, @Param("departmentIds") Collection<UUID> departmentIds);
+
+    // Departments the user is a member of, resolved through the department_users(user_id) index
+    @Query("SELECT d FROM Department d JOIN d.userIds u WHERE u = :userId")
+    List<Department> findByMemberUserId(@Param("userId") UUID userId);
+
+    @Query("SELECT d.id FROM Department d JOIN d.userIds u WHERE u = :userId")
+    List<UUID> findIdsByMemberUserId(@Param("userId") UUID userId);
+
+    // Set-based survey assignment: rows already present and departments outside the organization are skipped
+    @Modifying
+    @Query(value = "INSERT INTO department_surveys (organization_id, department_id, survey_id) " +
+            "SELECT d.organization_id, d.id, CAST(:surveyId AS uuid) FROM department d " +
+            "WHERE d.organization_id = :organizationId AND d.id IN (:departmentIds) " +
+            "AND NOT EXISTS (SELECT 1 FROM department_surveys ds WHERE ds.organization_id = d.organization_id " +
+            "AND ds.department_id = d.id AND ds.survey_id = :surveyId) " +
+            "ON CONFLICT DO NOTHING", nativeQuery = true)
+    int assignSurveyToDepartments(@Param("surveyId") UUID surveyId,
+                                  @Param("departmentIds") Collection<UUID> departmentIds,
+                                  @Param("organizationId") UUID organizationId);
+
+    // Reverse survey lookup, keyset-paginated on the (survey_id, department_id) index
+    @Query(value = "SELECT ds.department_id FROM department_surveys ds " +
+            "WHERE ds.survey_id = :surveyId AND ds.organization_id = :organizationId AND ds.department_id > :after " +
+            "ORDER BY ds.department_id LIMIT :limit", nativeQuery = true)
+    List<UUID> findDepartmentIdsBySurveyId(@Param("surveyId") UUID surveyId,
+                                           @Param("organizationId") UUID organizationId,
+                                           @Param("after") UUID after,
+                                           @Param("limit") int limit);
 }
\ No newline at end of file
@@ -0,0 +1,40 @@
+package organizationmanagement.repository;
+
+import organizationmanagement.model.IdempotencyRecord;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+
+public interface IdempotencyRecordRepository extends JpaRepository<IdempotencyRecord, String> {
+
+    /**
+     * Returns 1 when this request owns the key: it was free, expired, or held by a request that never finished
+     */
+    @Modifying
+    @Query(value = "INSERT INTO idempotency_record (id, request_hash, created_at, expires_at) " +
+            "VALUES (:id, :requestHash, now(), :expiresAt) " +
+            "ON CONFLICT (id) DO UPDATE SET request_hash = EXCLUDED.request_hash, status_code = NULL, " +
+            "content_type = NULL, body = NULL, created_at = now(), expires_at = EXCLUDED.expires_at " +
+            "WHERE idempotency_record.expires_at < now() " +
+            "OR (idempotency_record.status_code IS NULL AND idempotency_record.created_at < :staleBefore)",
+            nativeQuery = true)
+    int claim(@Param("id") String id, @Param("requestHash") String requestHash,
+              @Param("expiresAt") Instant expiresAt, @Param("staleBefore") Instant staleBefore);
+
+    @Modifying
+    @Query(value = "UPDATE idempotency_record SET status_code = :statusCode, content_type = :contentType, body = :body " +
+            "WHERE id = :id AND status_code IS NULL", nativeQuery = true)
+    int complete(@Param("id") String id, @Param("statusCode") int statusCode,
+                 @Param("contentType") String contentType, @Param("body") byte[] body);
+
+    @Modifying
+    @Query(value = "DELETE FROM idempotency_record WHERE id = :id AND status_code IS NULL", nativeQuery = true)
+    int release(@Param("id") String id);
+
+    @Modifying
+    @Query(value = "DELETE FROM idempotency_record WHERE expires_at < now()", nativeQuery = true)
+    int deleteExpired();
+}
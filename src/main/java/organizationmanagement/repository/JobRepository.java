@@ -0,0 +1,64 @@
+package organizationmanagement.repository;
+
+import organizationmanagement.model.Job;
+import organizationmanagement.model.JobStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface JobRepository extends JpaRepository<Job, UUID> {
+
+    Optional<Job> findFirstByTypeAndOrganizationIdAndStatusIn(String type, UUID organizationId, Collection<JobStatus> statuses);
+
+    /**
+     * Queued jobs plus running jobs whose owner stopped heart-beating, oldest first; rows another node is claiming are skipped
+     */
+    @Query(value = "SELECT id FROM job WHERE status = 'QUEUED' OR (status = 'RUNNING' AND heartbeat_at < :staleBefore) " +
+            "ORDER BY created_at LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<UUID> lockRunnable(@Param("staleBefore") Instant staleBefore, @Param("limit") int limit);
+
+    @Modifying
+    @Query(value = "UPDATE job SET status = 'RUNNING', owner = :owner, heartbeat_at = now(), " +
+            "started_at = COALESCE(started_at, now()) WHERE id IN (:ids)", nativeQuery = true)
+    int markRunning(@Param("ids") Collection<UUID> ids, @Param("owner") String owner);
+
+    @Modifying
+    @Query(value = "UPDATE job SET heartbeat_at = now() WHERE id IN (:ids) AND owner = :owner AND status = 'RUNNING'",
+            nativeQuery = true)
+    int heartbeat(@Param("ids") Collection<UUID> ids, @Param("owner") String owner);
+
+    /**
+     * Returns 0 when the job was taken over by another node in the meantime
+     */
+    @Modifying
+    @Query(value = "UPDATE job SET checkpoint = :checkpoint, progress_done = :done, progress_total = :total, heartbeat_at = now() " +
+            "WHERE id = :id AND owner = :owner AND status = 'RUNNING'", nativeQuery = true)
+    int saveProgress(@Param("id") UUID id, @Param("owner") String owner, @Param("checkpoint") String checkpoint,
+                     @Param("done") long done, @Param("total") Long total);
+
+    @Query(value = "SELECT cancel_requested FROM job WHERE id = :id", nativeQuery = true)
+    boolean isCancelRequested(@Param("id") UUID id);
+
+    @Modifying
+    @Query(value = "UPDATE job SET status = :status, result = :result, error = :error, finished_at = now() " +
+            "WHERE id = :id AND owner = :owner AND status = 'RUNNING'", nativeQuery = true)
+    int finish(@Param("id") UUID id, @Param("owner") String owner, @Param("status") String status,
+               @Param("result") String result, @Param("error") String error);
+
+    /**
+     * A queued job is cancelled on the spot; a running one is flagged and stops at its next checkpoint
+     */
+    @Modifying
+    @Query(value = "UPDATE job SET cancel_requested = true, " +
+            "finished_at = CASE WHEN status = 'QUEUED' THEN now() ELSE finished_at END, " +
+            "status = CASE WHEN status = 'QUEUED' THEN 'CANCELLED' ELSE status END " +
+            "WHERE id = :id AND status IN ('QUEUED', 'RUNNING')", nativeQuery = true)
+    int requestCancel(@Param("id") UUID id);
+}
@@ -2,9 +2,23 @@ package organizationmanagement.repository;
 
 import organizationmanagement.model.Organization;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.UUID;
 
 public interface OrganizationRepository extends JpaRepository<Organization, UUID> {
-}
\ No newline at end of file
+
+    // Departments plus teams, to decide whether a delete runs inline or as a background job
+    @Query(value = "SELECT (SELECT count(*) FROM department WHERE organization_id = :organizationId) + " +
+            "(SELECT count(*) FROM team WHERE organization_id = :organizationId)",
+            nativeQuery = true)
+    long countUnitsByOrganizationId(@Param("organizationId") UUID organizationId);
+
+    // Only valid once the organization's departments are gone
+    @Modifying(clearAutomatically = true)
+    @Query(value = "DELETE FROM organization WHERE id = :organizationId", nativeQuery = true)
+    int deleteOrganizationById(@Param("organizationId") UUID organizationId);
+}
@@ -1,10 +1,12 @@
 package organizationmanagement.repository;
 
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import organizationmanagement.model.Team;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -17,20 +19,222 @@ public interface TeamRepository extends JpaRepository<Team, UUID> {
     /**
      * Find all teams within a specific organization
      */
-    @Query("SELECT t FROM Team t WHERE t.department.organization.id = :organizationId")
+    @Query("SELECT t FROM Team t WHERE t.organizationId = :organizationId")
     List<Team> findByDepartmentOrganizationId(@Param("organizationId") UUID organizationId);
 
     /**
      * Find a team by ID that belongs to a specific organization
      */
-    @Query("SELECT t FROM Team t WHERE t.id = :teamId AND t.department.organization.id = :organizationId")
+    @Query("SELECT t FROM Team t WHERE t.id = :teamId AND t.organizationId = :organizationId")
     Optional<Team> findByIdAndDepartmentOrganizationId(@Param("teamId") UUID teamId,
                                                        @Param("organizationId") UUID organizationId);
 
     /**
      * Check if a team exists by ID within a specific organization
      */
-    @Query("SELECT COUNT(t) > 0 FROM Team t WHERE t.id = :teamId AND t.department.organization.id = :organizationId")
+    @Query("SELECT COUNT(t) > 0 FROM Team t WHERE t.id = :teamId AND t.organizationId = :organizationId")
     boolean existsByIdAndDepartmentOrganizationId(@Param("teamId") UUID teamId,
                                                   @Param("organizationId") UUID organizationId);
+
+    /**
+     * Single-row membership writes: idempotent, and concurrent writers never overwrite each other's
+     * rows the way a load-modify-save of the whole collection does. Each returns the number of rows changed.
+     * The organization is the team's own, checked by the caller; it is the rows' partition key.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO team_users (organization_id, team_id, user_id) VALUES (:organizationId, :teamId, :userId) " +
+            "ON CONFLICT DO NOTHING", nativeQuery = true)
+    int addUser(@Param("organizationId") UUID organizationId, @Param("teamId") UUID teamId, @Param("userId") UUID userId);
+
+    @Modifying
+    @Query(value = "DELETE FROM team_users WHERE organization_id = :organizationId AND team_id = :teamId AND user_id = :userId",
+            nativeQuery = true)
+    int removeUser(@Param("organizationId") UUID organizationId, @Param("teamId") UUID teamId, @Param("userId") UUID userId);
+
+    @Modifying
+    @Query(value = "INSERT INTO team_surveys (organization_id, team_id, survey_id) VALUES (:organizationId, :teamId, :surveyId) " +
+            "ON CONFLICT DO NOTHING", nativeQuery = true)
+    int addSurvey(@Param("organizationId") UUID organizationId, @Param("teamId") UUID teamId, @Param("surveyId") UUID surveyId);
+
+    @Modifying
+    @Query(value = "DELETE FROM team_surveys WHERE organization_id = :organizationId AND team_id = :teamId AND survey_id = :surveyId",
+            nativeQuery = true)
+    int removeSurvey(@Param("organizationId") UUID organizationId, @Param("teamId") UUID teamId, @Param("surveyId") UUID surveyId);
+
+    /**
+     * (id, name, departmentId) of every team in an organization, for the in-memory hierarchy
+     */
+    @Query("SELECT t.id, t.name, t.department.id FROM Team t WHERE t.organizationId = :organizationId")
+    List<Object[]> findTreeRowsByOrganizationId(@Param("organizationId") UUID organizationId);
+
+    /**
+     * Teams of an organization whose lowercased name starts with the LIKE prefix or is trigram-similar to the query,
+     * as (id, name, departmentId, similarity) rows: prefix matches first, then the most similar
+     */
+    @Query(value = "SELECT t.id, t.name, t.department_id, similarity(lower(t.name), :query) AS score FROM team t " +
+            "WHERE t.organization_id = :organizationId AND (lower(t.name) LIKE :prefix OR lower(t.name) % :query) " +
+            "ORDER BY lower(t.name) LIKE :prefix DESC, score DESC, lower(t.name), t.id " +
+            "LIMIT :limit OFFSET :offset", nativeQuery = true)
+    List<Object[]> searchByName(@Param("organizationId") UUID organizationId,
+                                @Param("query") String query,
+                                @Param("prefix") String prefix,
+                                @Param("limit") int limit,
+                                @Param("offset") int offset);
+
+    // ===== SET-BASED DELETES =====
+
+    @Query(value = "SELECT t.id FROM team t WHERE t.organization_id = :organizationId LIMIT :limit", nativeQuery = true)
+    List<UUID> findIdsByOrganizationId(@Param("organizationId") UUID organizationId, @Param("limit") int limit);
+
+    @Query(value = "SELECT t.id FROM team t WHERE t.department_id = :departmentId", nativeQuery = true)
+    List<UUID> findIdsByDepartmentId(@Param("departmentId") UUID departmentId);
+
+    @Modifying(clearAutomatically = true)
+    @Query(value = "DELETE FROM team_users WHERE organization_id = :organizationId AND team_id IN (:teamIds)", nativeQuery = true)
+    int deleteUsersByTeamIds(@Param("organizationId") UUID organizationId, @Param("teamIds") Collection<UUID> teamIds);
+
+    @Modifying(clearAutomatically = true)
+    @Query(value = "DELETE FROM team_surveys WHERE organization_id = :organizationId AND team_id IN (:teamIds)", nativeQuery = true)
+    int deleteSurveysByTeamIds(@Param("organizationId") UUID organizationId, @Param("teamIds") Collection<UUID> teamIds);
+
+    @Modifying(clearAutomatically = true)
+    @Query(value = "DELETE FROM team WHERE organization_id = :organizationId AND id IN (:teamIds)", nativeQuery = true)
+    int deleteTeamsByIds(@Param("organizationId") UUID organizationId, @Param("teamIds") Collection<UUID> teamIds);
+
+    /**
+     * Teams the user is a member of, resolved through the team_users(user_id) index
+     */
+    @Query("SELECT t FROM Team t JOIN t.userIds u WHERE u = :userId")
+    List<Team> findByMemberUserId(@Param("userId") UUID userId);
+
+    @Query("SELECT t.id FROM Team t JOIN t.userIds u WHERE u = :userId")
+    List<UUID> findIdsByMemberUserId(@Param("userId") UUID userId);
+
+    /**
+     * Team and department memberships of many users in one round trip.
+     * Each row is (user_id, unit_id, kind) where kind is 0 for a team and 1 for a department.
+     */
+    @Query(value = "SELECT tu.user_id, tu.team_id, 0 FROM team_users tu WHERE tu.user_id IN (:userIds) " +
+            "UNION ALL " +
+            "SELECT du.user_id, du.department_id, 1 FROM department_users du WHERE du.user_id IN (:userIds)",
+            nativeQuery = true)
+    List<Object[]> findMembershipsByUserIds(@Param("userIds") Collection<UUID> userIds);
+
+    // ===== AGGREGATES =====
+
+    /**
+     * Direct membership counts of every unit in an organization, without loading any collection.
+     * Each row is (kind, unit_id, count): 0 team users, 1 team surveys, 2 department users, 3 department surveys.
+     */
+    @Query(value = "SELECT 0, tu.team_id, count(*) FROM team_users tu WHERE tu.organization_id = :organizationId GROUP BY tu.team_id " +
+            "UNION ALL " +
+            "SELECT 1, ts.team_id, count(*) FROM team_surveys ts WHERE ts.organization_id = :organizationId GROUP BY ts.team_id " +
+            "UNION ALL " +
+            "SELECT 2, du.department_id, count(*) FROM department_users du WHERE du.organization_id = :organizationId GROUP BY du.department_id " +
+            "UNION ALL " +
+            "SELECT 3, ds.department_id, count(*) FROM department_surveys ds WHERE ds.organization_id = :organizationId GROUP BY ds.department_id",
+            nativeQuery = true)
+    List<Object[]> countMembershipsByOrganizationId(@Param("organizationId") UUID organizationId);
+
+    /**
+     * Distinct users and surveys of each department together with its teams, and of the whole organization.
+     * Each row is (grouping, department_id, users, surveys); the organization row has grouping 1 and no department.
+     */
+    @Query(value = "SELECT GROUPING(m.department_id), m.department_id, " +
+            "count(DISTINCT m.member_id) FILTER (WHERE m.kind = 0), count(DISTINCT m.member_id) FILTER (WHERE m.kind = 1) " +
+            "FROM (" +
+            "SELECT du.department_id, du.user_id AS member_id, 0 AS kind FROM department_users du " +
+            "WHERE du.organization_id = :organizationId " +
+            "UNION ALL " +
+            "SELECT ds.department_id, ds.survey_id, 1 FROM department_surveys ds " +
+            "WHERE ds.organization_id = :organizationId " +
+            "UNION ALL " +
+            "SELECT t.department_id, tu.user_id, 0 FROM team_users tu " +
+            "JOIN team t ON t.organization_id = tu.organization_id AND t.id = tu.team_id " +
+            "WHERE tu.organization_id = :organizationId " +
+            "UNION ALL " +
+            "SELECT t.department_id, ts.survey_id, 1 FROM team_surveys ts " +
+            "JOIN team t ON t.organization_id = ts.organization_id AND t.id = ts.team_id " +
+            "WHERE ts.organization_id = :organizationId" +
+            ") m GROUP BY GROUPING SETS ((m.department_id), ())", nativeQuery = true)
+    List<Object[]> countDistinctMembersByDepartment(@Param("organizationId") UUID organizationId);
+
+    // Set-based survey assignment: rows already present and teams outside the organization are skipped
+
+    /**
+     * Assign a survey to the given teams of an organization, returning the number of new assignments
+     */
+    @Modifying
+    @Query(value = "INSERT INTO team_surveys (organization_id, team_id, survey_id) " +
+            "SELECT t.organization_id, t.id, CAST(:surveyId AS uuid) FROM team t " +
+            "WHERE t.organization_id = :organizationId AND t.id IN (:teamIds) " +
+            "AND NOT EXISTS (SELECT 1 FROM team_surveys ts WHERE ts.organization_id = t.organization_id " +
+            "AND ts.team_id = t.id AND ts.survey_id = :surveyId) " +
+            "ON CONFLICT DO NOTHING", nativeQuery = true)
+    int assignSurveyToTeams(@Param("surveyId") UUID surveyId,
+                            @Param("teamIds") Collection<UUID> teamIds,
+                            @Param("organizationId") UUID organizationId);
+
+    /**
+     * Assign a survey to every team under the given departments of an organization
+     */
+    @Modifying
+    @Query(value = "INSERT INTO team_surveys (organization_id, team_id, survey_id) " +
+            "SELECT t.organization_id, t.id, CAST(:surveyId AS uuid) FROM team t " +
+            "WHERE t.organization_id = :organizationId AND t.department_id IN (:departmentIds) " +
+            "AND NOT EXISTS (SELECT 1 FROM team_surveys ts WHERE ts.organization_id = t.organization_id " +
+            "AND ts.team_id = t.id AND ts.survey_id = :surveyId) " +
+            "ON CONFLICT DO NOTHING", nativeQuery = true)
+    int assignSurveyToTeamsOfDepartments(@Param("surveyId") UUID surveyId,
+                                         @Param("departmentIds") Collection<UUID> departmentIds,
+                                         @Param("organizationId") UUID organizationId);
+
+    /**
+     * Assign a survey to every team of an organization
+     */
+    @Modifying
+    @Query(value = "INSERT INTO team_surveys (organization_id, team_id, survey_id) " +
+            "SELECT t.organization_id, t.id, CAST(:surveyId AS uuid) FROM team t " +
+            "WHERE t.organization_id = :organizationId " +
+            "AND NOT EXISTS (SELECT 1 FROM team_surveys ts WHERE ts.organization_id = t.organization_id " +
+            "AND ts.team_id = t.id AND ts.survey_id = :surveyId) " +
+            "ON CONFLICT DO NOTHING", nativeQuery = true)
+    int assignSurveyToAllTeams(@Param("surveyId") UUID surveyId,
+                               @Param("organizationId") UUID organizationId);
+
+    // Reverse survey lookups, keyset-paginated on the (survey_id, team_id) index
+
+    /**
+     * Ids of the organization's teams that have the survey assigned, in id order after the given cursor
+     */
+    @Query(value = "SELECT ts.team_id FROM team_surveys ts " +
+            "WHERE ts.survey_id = :surveyId AND ts.organization_id = :organizationId AND ts.team_id > :after " +
+            "ORDER BY ts.team_id LIMIT :limit", nativeQuery = true)
+    List<UUID> findTeamIdsBySurveyId(@Param("surveyId") UUID surveyId,
+                                     @Param("organizationId") UUID organizationId,
+                                     @Param("after") UUID after,
+                                     @Param("limit") int limit);
+
+    /**
+     * De-duplicated ids of every user targeted by the survey in an organization: members of teams that have it,
+     * and members of departments that have it, including the members of those departments' teams
+     */
+    @Query(value = "SELECT a.user_id FROM (" +
+            "SELECT tu.user_id FROM team_surveys ts " +
+            "JOIN team_users tu ON tu.organization_id = ts.organization_id AND tu.team_id = ts.team_id " +
+            "WHERE ts.survey_id = :surveyId AND ts.organization_id = :organizationId " +
+            "UNION " +
+            "SELECT du.user_id FROM department_surveys ds " +
+            "JOIN department_users du ON du.organization_id = ds.organization_id AND du.department_id = ds.department_id " +
+            "WHERE ds.survey_id = :surveyId AND ds.organization_id = :organizationId " +
+            "UNION " +
+            "SELECT tu.user_id FROM department_surveys ds " +
+            "JOIN team t ON t.organization_id = ds.organization_id AND t.department_id = ds.department_id " +
+            "JOIN team_users tu ON tu.organization_id = t.organization_id AND tu.team_id = t.id " +
+            "WHERE ds.survey_id = :surveyId AND ds.organization_id = :organizationId" +
+            ") a WHERE a.user_id > :after ORDER BY a.user_id LIMIT :limit", nativeQuery = true)
+    List<UUID> findAudienceUserIdsBySurveyId(@Param("surveyId") UUID surveyId,
+                                             @Param("organizationId") UUID organizationId,
+                                             @Param("after") UUID after,
+                                             @Param("limit") int limit);
 }
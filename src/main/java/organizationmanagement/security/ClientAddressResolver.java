@@ -0,0 +1,41 @@
+package organizationmanagement.security;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Client address of a request that came through the gateway, for keying unauthenticated callers.
+ * <p>
+ * Every proxy appends the address it received the request from to X-Forwarded-For, so only the right-most
+ * entries written by our own proxies can be trusted; anything to their left is supplied by the client.
+ * With {@code trustedHops} proxies in front of the service, the client is the entry that many places from the
+ * right. A header with fewer entries did not pass through all of them and is ignored.
+ */
+@Component
+public class ClientAddressResolver {
+    private final int trustedHops;
+
+    public ClientAddressResolver(@Value("${organization.gateway.trusted-proxy-hops:1}") int trustedHops) {
+        if (trustedHops < 0) {
+            throw new IllegalArgumentException("organization.gateway.trusted-proxy-hops must not be negative");
+        }
+        this.trustedHops = trustedHops;
+    }
+
+    public String resolve(HttpServletRequest request) {
+        if (trustedHops == 0) {
+            return request.getRemoteAddr();
+        }
+        String forwardedFor = request.getHeader("X-Forwarded-For");
+        if (forwardedFor == null || forwardedFor.isBlank()) {
+            return request.getRemoteAddr();
+        }
+        String[] entries = forwardedFor.split(",");
+        if (entries.length < trustedHops) {
+            return request.getRemoteAddr();
+        }
+        String client = entries[entries.length - trustedHops].trim();
+        return client.isEmpty() ? request.getRemoteAddr() : client;
+    }
+}
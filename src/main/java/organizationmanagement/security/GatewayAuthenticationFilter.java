@@ -28,6 +28,7 @@ public class GatewayAuthenticationFilter extends OncePerRequestFilter {
             "/swagger-ui/**",
             "/swagger-ui.html",
             "/api/organizations/register", // for POST requests
+            "/api/organizations/memberships/lookup", // for POST requests
             "/api/organizations/*/exists", // for GET requests
             "/api/departments/*/exists", // for GET requests
             "/api/teams/*/exists", // for GET requests
@@ -113,8 +114,9 @@ public class GatewayAuthenticationFilter extends OncePerRequestFilter {
 
         for (String pattern : PUBLIC_ENDPOINTS) {
             if (pathMatcher.match(pattern, requestPath)) {
-                // For /api/organizations/register, only allow POST requests
-                if (pattern.equals("/api/organizations/register") && !"POST".equals(method)) {
+                // For /api/organizations/register and the membership lookup, only allow POST requests
+                if ((pattern.equals("/api/organizations/register") ||
+                        pattern.equals("/api/organizations/memberships/lookup")) && !"POST".equals(method)) {
                     continue;
                 }
                 // For exists endpoints, only allow GET requests
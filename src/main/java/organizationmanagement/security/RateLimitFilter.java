@@ -0,0 +1,152 @@
+package organizationmanagement.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import organizationmanagement.config.RateLimitProperties;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-caller token buckets, applied after {@link GatewayAuthenticationFilter} has resolved the caller.
+ * Each organization gets its own bucket, so a tenant running bulk traffic exhausts only its own budget;
+ * unauthenticated public routes are limited per client IP. Rejected requests get 429 with Retry-After.
+ */
+@Slf4j
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    enum RouteClass { PUBLIC, TENANT, BULK, ADMIN }
+
+    // Long-running or write-heavy endpoints with a much smaller budget
+    private static final String[] BULK_ENDPOINTS = {
+            "/api/organizations/*/export",
+            "/api/organizations/*/import",
+            "/api/organizations/*/surveys/*/bulk-assign"
+    };
+    private static final String OVERFLOW_KEY = "overflow";
+
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final RateLimitProperties properties;
+    private final ClientAddressResolver clientAddressResolver;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+
+    public RateLimitFilter(RateLimitProperties properties, ClientAddressResolver clientAddressResolver,
+                           MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.clientAddressResolver = clientAddressResolver;
+        this.meterRegistry = meterRegistry;
+        Gauge.builder("organization.rate.limit.buckets", buckets, Map::size)
+                .description("Callers currently tracked by the rate limiter")
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.isEnabled() || request.getRequestURI().startsWith("/actuator/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain)
+            throws ServletException, IOException {
+        RouteClass routeClass = classify(request);
+        long now = System.nanoTime();
+        long waitNanos = bucket(routeClass, callerKey(request, routeClass), now).tryConsume(now);
+        if (waitNanos == 0) {
+            count(routeClass, "allowed");
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        count(routeClass, "rejected");
+        long retryAfterSeconds = Math.max(1, (waitNanos + 999_999_999L) / 1_000_000_000L);
+        response.setStatus(429);
+        response.setHeader("Retry-After", Long.toString(retryAfterSeconds));
+        response.setContentType("application/json");
+        response.getWriter().write(
+                String.format("{\"error\": \"Too Many Requests\", \"message\": \"Rate limit exceeded, retry in %d s\", \"path\": \"%s\"}",
+                        retryAfterSeconds, request.getRequestURI())
+        );
+    }
+
+    /**
+     * Drop buckets that have refilled completely; they are recreated identical on the next request
+     */
+    @Scheduled(fixedDelayString = "${organization.rate-limit.eviction-interval-ms:60000}")
+    public void evictIdleBuckets() {
+        long now = System.nanoTime();
+        buckets.values().removeIf(bucket -> bucket.isFull(now));
+    }
+
+    private RouteClass classify(HttpServletRequest request) {
+        // The gateway filter sets the username for every authenticated request and skips public endpoints
+        if (request.getAttribute("username") == null) {
+            return RouteClass.PUBLIC;
+        }
+        String path = request.getRequestURI();
+        for (String pattern : BULK_ENDPOINTS) {
+            if (pathMatcher.match(pattern, path)) {
+                return RouteClass.BULK;
+            }
+        }
+        return request.getAttribute("organizationId") != null ? RouteClass.TENANT : RouteClass.ADMIN;
+    }
+
+    private String callerKey(HttpServletRequest request, RouteClass routeClass) {
+        if (routeClass == RouteClass.PUBLIC) {
+            return "ip:" + clientAddressResolver.resolve(request);
+        }
+        Object organizationId = request.getAttribute("organizationId");
+        if (organizationId instanceof UUID) {
+            return "org:" + organizationId;
+        }
+        return "user:" + request.getAttribute("username");
+    }
+
+    private TokenBucket bucket(RouteClass routeClass, String callerKey, long now) {
+        String key = routeClass.name() + ":" + callerKey;
+        TokenBucket bucket = buckets.get(key);
+        if (bucket != null) {
+            return bucket;
+        }
+        if (buckets.size() >= properties.getMaxTrackedCallers()) {
+            // Bounded memory under a flood of distinct callers: newcomers share one bucket until eviction
+            key = routeClass.name() + ":" + OVERFLOW_KEY;
+            log.debug("Rate limiter tracks {} callers, {} shares the overflow bucket", buckets.size(), callerKey);
+        }
+        RateLimitProperties.Limit limit = limit(routeClass);
+        return buckets.computeIfAbsent(key, k -> new TokenBucket(limit.getCapacity(), limit.getRefillPerSecond(), now));
+    }
+
+    private RateLimitProperties.Limit limit(RouteClass routeClass) {
+        return switch (routeClass) {
+            case PUBLIC -> properties.getPublicRoutes();
+            case TENANT -> properties.getTenant();
+            case BULK -> properties.getBulk();
+            case ADMIN -> properties.getAdmin();
+        };
+    }
+
+    private void count(RouteClass routeClass, String outcome) {
+        Counter.builder("organization.rate.limit")
+                .tag("route_class", routeClass.name().toLowerCase())
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .increment();
+    }
+}
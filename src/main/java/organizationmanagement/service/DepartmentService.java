@@ -16,11 +16,13 @@ public interface DepartmentService {
     void deleteByIdAndOrganization(UUID id, UUID organizationId);
     Department createUnderOrganization(UUID orgId, Department dept);
     Department update(Department dept);
-    void assignUserToDepartmentInOrganization(UUID departmentId, UUID userId, UUID organizationId);
-    void removeUserFromDepartmentInOrganization(UUID departmentId, UUID userId, UUID organizationId);
-    void assignSurveyToDepartmentInOrganization(UUID departmentId, UUID surveyId, UUID organizationId);
-    void removeSurveyFromDepartmentInOrganization(UUID departmentId, UUID surveyId, UUID organizationId);
+    boolean assignUserToDepartmentInOrganization(UUID departmentId, UUID userId, UUID organizationId);
+    boolean removeUserFromDepartmentInOrganization(UUID departmentId, UUID userId, UUID organizationId);
+    boolean assignSurveyToDepartmentInOrganization(UUID departmentId, UUID surveyId, UUID organizationId);
+    boolean removeSurveyFromDepartmentInOrganization(UUID departmentId, UUID surveyId, UUID organizationId);
+    boolean existsById(UUID id);
     DepartmentRepository getDepartmentRepository();
     Department findByUserId(UUID userId);
+    UUID findIdByUserId(UUID userId);
     List<UserDTO> getUsersForDepartment(UUID departmentId, UUID organizationId);
 }
\ No newline at end of file
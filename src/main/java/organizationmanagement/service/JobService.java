@@ -0,0 +1,21 @@
+package organizationmanagement.service;
+
+import organizationmanagement.model.Job;
+
+import java.util.UUID;
+
+public interface JobService {
+    /**
+     * Queue a background job; params are stored as JSON and handed to the job's handler
+     */
+    Job submit(String type, UUID organizationId, Object params);
+
+    /**
+     * Like {@link #submit}, but returns the organization's queued or running job of that type when there is one
+     */
+    Job submitOnce(String type, UUID organizationId, Object params);
+
+    Job getById(UUID id);
+
+    Job cancel(UUID id);
+}
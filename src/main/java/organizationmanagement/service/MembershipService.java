@@ -0,0 +1,11 @@
+package organizationmanagement.service;
+
+import organizationmanagement.dto.UserMembershipDTO;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+
+public interface MembershipService {
+    Map<UUID, UserMembershipDTO> getMemberships(Collection<UUID> userIds);
+}
@@ -0,0 +1,12 @@
+package organizationmanagement.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.UUID;
+
+public interface OrganizationExportService {
+    /**
+     * Write the organization, its departments, teams and memberships as newline-delimited JSON
+     */
+    void exportOrganization(UUID organizationId, OutputStream out) throws IOException;
+}
@@ -0,0 +1,14 @@
+package organizationmanagement.service;
+
+import organizationmanagement.dto.ImportResultDTO;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.UUID;
+
+public interface OrganizationImportService {
+    /**
+     * Create departments, teams and memberships from a CSV (header row first) or NDJSON body, all or nothing
+     */
+    ImportResultDTO importStructure(UUID organizationId, InputStream body, boolean csv) throws IOException;
+}
@@ -1,5 +1,6 @@
 package organizationmanagement.service;
 
+import organizationmanagement.model.Job;
 import organizationmanagement.model.Organization;
 import java.util.List;
 import java.util.UUID;
@@ -9,6 +10,12 @@ public interface OrganizationService {
     Organization create(Organization org);
     boolean exists(UUID id);
     Organization getById(UUID id);
-    Organization update(UUID id, Organization updatedOrg);
-    void delete(UUID id);
+    /**
+     * ifMatch: the client's If-Match header, or null to update unconditionally
+     */
+    Organization update(UUID id, Organization updatedOrg, String ifMatch);
+    /**
+     * Deletes small organizations right away and returns null; large ones are handed to a background job, which is returned
+     */
+    Job delete(UUID id);
 }
\ No newline at end of file
@@ -0,0 +1,14 @@
+package organizationmanagement.service;
+
+import organizationmanagement.dto.BulkSurveyAssignmentDTO;
+import organizationmanagement.dto.BulkSurveyAssignmentResultDTO;
+import organizationmanagement.dto.IdPageDTO;
+
+import java.util.UUID;
+
+public interface SurveyAssignmentService {
+    BulkSurveyAssignmentResultDTO assignSurveyInBulk(UUID surveyId, BulkSurveyAssignmentDTO request, UUID organizationId);
+    IdPageDTO getTeamIdsBySurvey(UUID surveyId, UUID organizationId, UUID after, Integer limit);
+    IdPageDTO getDepartmentIdsBySurvey(UUID surveyId, UUID organizationId, UUID after, Integer limit);
+    IdPageDTO getAudienceUserIdsBySurvey(UUID surveyId, UUID organizationId, UUID after, Integer limit);
+}
@@ -11,18 +11,22 @@ public interface TeamService {
     void delete(UUID id);
     List<Team> getByDepartmentId(UUID departmentId);
     Team createUnderDepartment(UUID deptId, Team team);
-    Team update(UUID id, UUID departmentId, Team updatedTeam);
+    /**
+     * ifMatch: the client's If-Match header, or null to update unconditionally
+     */
+    Team update(UUID id, UUID departmentId, Team updatedTeam, String ifMatch);
     List<Team> getAllByOrganization(UUID organizationId);
     Team getByIdAndOrganization(UUID id, UUID organizationId);
     void deleteByIdAndOrganization(UUID id, UUID organizationId);
     List<Team> getByDepartmentIdAndOrganization(UUID departmentId, UUID organizationId);
     Team createUnderDepartmentInOrganization(UUID deptId, Team team, UUID organizationId);
-    Team updateInOrganization(UUID id, UUID departmentId, Team updatedTeam, UUID organizationId);
-    void assignUserToTeamInOrganization(UUID teamId, UUID userId, UUID organizationId);
-    void removeUserFromTeamInOrganization(UUID teamId, UUID userId, UUID organizationId);
-    void assignSurveyToTeamInOrganization(UUID teamId, UUID surveyId, UUID organizationId);
-    void removeSurveyFromTeamInOrganization(UUID teamId, UUID surveyId, UUID organizationId);
+    Team updateInOrganization(UUID id, UUID departmentId, Team updatedTeam, UUID organizationId, String ifMatch);
+    boolean assignUserToTeamInOrganization(UUID teamId, UUID userId, UUID organizationId);
+    boolean removeUserFromTeamInOrganization(UUID teamId, UUID userId, UUID organizationId);
+    boolean assignSurveyToTeamInOrganization(UUID teamId, UUID surveyId, UUID organizationId);
+    boolean removeSurveyFromTeamInOrganization(UUID teamId, UUID surveyId, UUID organizationId);
     boolean existsById(UUID id);
     Team findByUserId(UUID userId);
+    UUID findIdByUserId(UUID userId);
     List<UserDTO> getUsersForTeam(UUID teamId, UUID organizationId);
 }
\ No newline at end of file
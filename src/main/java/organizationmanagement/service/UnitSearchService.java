@@ -0,0 +1,10 @@
+package organizationmanagement.service;
+
+import organizationmanagement.dto.NameSearchResultDTO;
+
+import java.util.UUID;
+
+public interface UnitSearchService {
+    NameSearchResultDTO searchTeams(UUID organizationId, String query, Integer page, Integer size);
+    NameSearchResultDTO searchDepartments(UUID organizationId, String query, Integer page, Integer size);
+}
@@ -0,0 +1,9 @@
+package organizationmanagement.service;
+
+import organizationmanagement.dto.OrganizationStatsDTO;
+
+import java.util.UUID;
+
+public interface UnitStatsService {
+    OrganizationStatsDTO getStats(UUID organizationId);
+}
@@ -1,37 +1,51 @@
 package organizationmanagement.service.impl;
 
-import feign.FeignException;
 import lombok.RequiredArgsConstructor;
-import organizationmanagement.client.SurveyServiceClient;
-import organizationmanagement.client.UserServiceClient;
+import organizationmanagement.client.AsyncServiceClient;
+import organizationmanagement.client.AsyncSurveyServiceClient;
+import organizationmanagement.client.AsyncUserServiceClient;
+import organizationmanagement.config.DataSourceWorkload;
 import organizationmanagement.dto.UserDTO;
+import organizationmanagement.cache.ExistenceFilter;
+import organizationmanagement.cache.UserDirectoryCache;
+import organizationmanagement.event.EntityChangeEvent;
+import organizationmanagement.event.MembershipChangeEvent;
 import organizationmanagement.exception.BadRequestException;
 import organizationmanagement.exception.ResourceNotFoundException;
-import organizationmanagement.exception.ServiceUnavailableException;
 import organizationmanagement.model.Department;
 import organizationmanagement.model.Organization;
 import organizationmanagement.repository.DepartmentRepository;
 import organizationmanagement.repository.OrganizationRepository;
 import organizationmanagement.service.DepartmentService;
-import org.springframework.http.ResponseEntity;
+import organizationmanagement.util.SingleFlight;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 @Service
 @RequiredArgsConstructor
 public class DepartmentServiceImpl implements DepartmentService {
     private final DepartmentRepository departmentRepository;
     private final OrganizationRepository organizationRepository;
-    private final UserServiceClient userServiceClient;
-    private final SurveyServiceClient surveyServiceClient;
+    private final OrganizationDeletion organizationDeletion;
+    private final AsyncUserServiceClient asyncUserServiceClient;
+    private final AsyncSurveyServiceClient asyncSurveyServiceClient;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ExistenceFilter existenceFilter;
+    private final UserDirectoryCache userDirectoryCache;
+
+    // Gateway and sibling services resolve the same users' departments in bursts, e.g. right after a deploy
+    private final SingleFlight<UUID, Optional<UUID>> departmentIdByUser = new SingleFlight<>();
 
     @Override
     public List<Department> getAll() {
-        return departmentRepository.findAll();
+        return DataSourceWorkload.callAs(DataSourceWorkload.ADMIN, departmentRepository::findAll);
     }
 
     @Override
@@ -41,11 +55,12 @@ public class DepartmentServiceImpl implements DepartmentService {
     }
 
     @Override
+    @Transactional
     public void delete(UUID id) {
-        if (!departmentRepository.existsById(id)) {
-            throw new ResourceNotFoundException("Department not found with id " + id);
-        }
-        departmentRepository.deleteById(id);
+        Department department = departmentRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Department not found with id " + id));
+        organizationDeletion.deleteDepartment(department.getOrganization().getId(), department.getId());
+        eventPublisher.publishEvent(EntityChangeEvent.of(department, EntityChangeEvent.ChangeType.DELETED));
     }
 
     @Override
@@ -66,14 +81,17 @@ public class DepartmentServiceImpl implements DepartmentService {
     }
 
     @Override
+    @Transactional
     public void deleteByIdAndOrganization(UUID id, UUID organizationId) {
         Department department = departmentRepository.findByIdAndOrganizationId(id, organizationId)
                 .orElseThrow(() -> new ResourceNotFoundException(
                         "Department not found with id " + id + " in organization " + organizationId));
-        departmentRepository.delete(department);
+        organizationDeletion.deleteDepartment(organizationId, department.getId());
+        eventPublisher.publishEvent(EntityChangeEvent.of(department, EntityChangeEvent.ChangeType.DELETED));
     }
 
     @Override
+    @Transactional
     public Department createUnderOrganization(UUID orgId, Department dept) {
         validateDepartmentName(dept.getName());
         
@@ -87,10 +105,13 @@ public class DepartmentServiceImpl implements DepartmentService {
         }
         
         dept.setOrganization(org);
-        return departmentRepository.save(dept);
+        Department saved = departmentRepository.save(dept);
+        eventPublisher.publishEvent(EntityChangeEvent.of(saved, EntityChangeEvent.ChangeType.CREATED));
+        return saved;
     }
 
     @Override
+    @Transactional
     public Department update(Department dept) {
         validateDepartmentName(dept.getName());
         
@@ -98,7 +119,9 @@ public class DepartmentServiceImpl implements DepartmentService {
             throw new ResourceNotFoundException("Cannot update department. Department not found with id " + dept.getId());
         }
         
-        return departmentRepository.save(dept);
+        Department saved = departmentRepository.save(dept);
+        eventPublisher.publishEvent(EntityChangeEvent.of(saved, EntityChangeEvent.ChangeType.UPDATED));
+        return saved;
     }
 
     private void validateDepartmentName(String name) {
@@ -113,82 +136,75 @@ public class DepartmentServiceImpl implements DepartmentService {
     }
 
     @Override
-    public void assignUserToDepartmentInOrganization(UUID departmentId, UUID userId, UUID organizationId) {
-        Department department = departmentRepository.findByIdAndOrganizationId(departmentId, organizationId)
-                .orElseThrow(() -> new ResourceNotFoundException(
-                        "Department not found with id " + departmentId + " in organization " + organizationId));
-        
-        ResponseEntity<Boolean> userExistsResponse = userServiceClient.userExists(userId);
-        if (userExistsResponse.getBody() == null || !userExistsResponse.getBody()) {
+    @Transactional
+    public boolean assignUserToDepartmentInOrganization(UUID departmentId, UUID userId, UUID organizationId) {
+        // Remote check runs while the department is looked up
+        CompletableFuture<Boolean> userExists = asyncUserServiceClient.userExists(userId);
+        requireDepartmentInOrganization(departmentId, organizationId);
+        if (!AsyncServiceClient.await(userExists)) {
             throw new ResourceNotFoundException("User not found with id: " + userId);
         }
-        
-        if (department.getUserIds().contains(userId)) {
-            throw new BadRequestException("User is already assigned to this department");
+        boolean added = departmentRepository.addUser(organizationId, departmentId, userId) > 0;
+        if (added) {
+            publishMembershipChange(departmentId, organizationId, MembershipChangeEvent.MemberType.USER, userId, MembershipChangeEvent.ChangeType.ADDED);
         }
-        
-        department.getUserIds().add(userId);
-        departmentRepository.save(department);
+        return added;
     }
 
     @Override
-    public void removeUserFromDepartmentInOrganization(UUID departmentId, UUID userId, UUID organizationId) {
-        Department department = departmentRepository.findByIdAndOrganizationId(departmentId, organizationId)
-                .orElseThrow(() -> new ResourceNotFoundException(
-                        "Department not found with id " + departmentId + " in organization " + organizationId));
-        
-        if (!department.getUserIds().contains(userId)) {
-            throw new BadRequestException("User is not assigned to this department");
+    @Transactional
+    public boolean removeUserFromDepartmentInOrganization(UUID departmentId, UUID userId, UUID organizationId) {
+        requireDepartmentInOrganization(departmentId, organizationId);
+        boolean removed = departmentRepository.removeUser(organizationId, departmentId, userId) > 0;
+        if (removed) {
+            publishMembershipChange(departmentId, organizationId, MembershipChangeEvent.MemberType.USER, userId, MembershipChangeEvent.ChangeType.REMOVED);
         }
-        
-        department.getUserIds().remove(userId);
-        departmentRepository.save(department);
+        return removed;
     }
 
     @Override
     @Transactional
-    public void assignSurveyToDepartmentInOrganization(UUID departmentId, UUID surveyId, UUID organizationId) {
-        try {
-            Department department = departmentRepository.findByIdAndOrganizationId(departmentId, organizationId)
-                    .orElseThrow(() -> new ResourceNotFoundException(
-                            "Department not found with id " + departmentId + " in organization " + organizationId));
-            try {
-                ResponseEntity<Boolean> surveyExistsResponse = surveyServiceClient.surveyExists(surveyId);
-                if (!surveyExistsResponse.getStatusCode().is2xxSuccessful()) {
-                    throw new ResourceNotFoundException("Survey service unavailable or survey not found");
-                }
-                if (surveyExistsResponse.getBody() == null || !surveyExistsResponse.getBody()) {
-                    throw new ResourceNotFoundException("Survey not found with id: " + surveyId);
-                }
-            } catch (FeignException.NotFound e) {
-                throw new ResourceNotFoundException("Survey not found with id: " + surveyId);
-            } catch (FeignException e) {
-                throw new ServiceUnavailableException("Survey service unavailable: " + e.getMessage());
-            }
-            if (department.getSurveyIds().contains(surveyId)) {
-                throw new BadRequestException("Survey is already assigned to this department");
-            }
-            department.getSurveyIds().add(surveyId);
-            departmentRepository.save(department);
-        } catch (ResourceNotFoundException | BadRequestException e) {
-            throw e;
-        } catch (Exception e) {
-            throw new ServiceUnavailableException("Failed to assign survey: " + e.getMessage());
+    public boolean assignSurveyToDepartmentInOrganization(UUID departmentId, UUID surveyId, UUID organizationId) {
+        // Remote check runs while the department is looked up
+        CompletableFuture<Boolean> surveyExists = asyncSurveyServiceClient.surveyExists(surveyId);
+        requireDepartmentInOrganization(departmentId, organizationId);
+        if (!AsyncServiceClient.await(surveyExists)) {
+            throw new ResourceNotFoundException("Survey not found with id: " + surveyId);
+        }
+        boolean added = departmentRepository.addSurvey(organizationId, departmentId, surveyId) > 0;
+        if (added) {
+            publishMembershipChange(departmentId, organizationId, MembershipChangeEvent.MemberType.SURVEY, surveyId, MembershipChangeEvent.ChangeType.ADDED);
         }
+        return added;
     }
 
     @Override
-    public void removeSurveyFromDepartmentInOrganization(UUID departmentId, UUID surveyId, UUID organizationId) {
-        Department department = departmentRepository.findByIdAndOrganizationId(departmentId, organizationId)
-                .orElseThrow(() -> new ResourceNotFoundException(
-                        "Department not found with id " + departmentId + " in organization " + organizationId));
-        
-        if (!department.getSurveyIds().contains(surveyId)) {
-            throw new BadRequestException("Survey is not assigned to this department");
+    @Transactional
+    public boolean removeSurveyFromDepartmentInOrganization(UUID departmentId, UUID surveyId, UUID organizationId) {
+        requireDepartmentInOrganization(departmentId, organizationId);
+        boolean removed = departmentRepository.removeSurvey(organizationId, departmentId, surveyId) > 0;
+        if (removed) {
+            publishMembershipChange(departmentId, organizationId, MembershipChangeEvent.MemberType.SURVEY, surveyId, MembershipChangeEvent.ChangeType.REMOVED);
         }
-        
-        department.getSurveyIds().remove(surveyId);
-        departmentRepository.save(department);
+        return removed;
+    }
+
+    private void requireDepartmentInOrganization(UUID departmentId, UUID organizationId) {
+        if (!departmentRepository.existsByIdAndOrganizationId(departmentId, organizationId)) {
+            throw new ResourceNotFoundException(
+                    "Department not found with id " + departmentId + " in organization " + organizationId);
+        }
+    }
+
+    private void publishMembershipChange(UUID departmentId, UUID organizationId, MembershipChangeEvent.MemberType memberType,
+                                         UUID memberId, MembershipChangeEvent.ChangeType changeType) {
+        eventPublisher.publishEvent(new MembershipChangeEvent(EntityChangeEvent.EntityType.DEPARTMENT, changeType, memberType,
+                organizationId, departmentId, memberId));
+    }
+
+    @Override
+    public boolean existsById(UUID id) {
+        return existenceFilter.exists(EntityChangeEvent.EntityType.DEPARTMENT, id, departmentRepository::existsById);
     }
 
     @Override
@@ -198,12 +214,17 @@ public class DepartmentServiceImpl implements DepartmentService {
 
     @Override
     public Department findByUserId(UUID userId) {
-        return departmentRepository.findAll().stream()
-                .filter(dept -> dept.getUserIds() != null && dept.getUserIds().contains(userId))
+        return departmentRepository.findByMemberUserId(userId).stream()
                 .findFirst()
                 .orElseThrow(() -> new ResourceNotFoundException("Department not found for userId: " + userId));
     }
 
+    @Override
+    public UUID findIdByUserId(UUID userId) {
+        return departmentIdByUser.execute(userId, () -> departmentRepository.findIdsByMemberUserId(userId).stream().findFirst())
+                .orElseThrow(() -> new ResourceNotFoundException("Department not found for userId: " + userId));
+    }
+
     @Override
     public List<UserDTO> getUsersForDepartment(UUID departmentId, UUID organizationId) {
         Department dept = departmentRepository.findByIdAndOrganizationId(departmentId, organizationId)
@@ -211,7 +232,6 @@ public class DepartmentServiceImpl implements DepartmentService {
         if (dept.getUserIds() == null || dept.getUserIds().isEmpty()) {
             return new ArrayList<>();
         }
-        ResponseEntity<List<UserDTO>> response = userServiceClient.getUsersByIds(new ArrayList<>(dept.getUserIds()));
-        return response.getBody() != null ? response.getBody() : new ArrayList<>();
+        return userDirectoryCache.getUsers(dept.getUserIds());
     }
 } 
\ No newline at end of file
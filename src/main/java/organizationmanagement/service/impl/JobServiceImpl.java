@@ -0,0 +1,79 @@
+package organizationmanagement.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import organizationmanagement.exception.BadRequestException;
+import organizationmanagement.exception.ResourceNotFoundException;
+import organizationmanagement.job.JobRunner;
+import organizationmanagement.model.Job;
+import organizationmanagement.model.JobStatus;
+import organizationmanagement.repository.JobRepository;
+import organizationmanagement.service.JobService;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.util.EnumSet;
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
+public class JobServiceImpl implements JobService {
+    private final JobRepository jobRepository;
+    private final JobRunner jobRunner;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    @Transactional
+    public Job submit(String type, UUID organizationId, Object params) {
+        if (!jobRunner.supports(type)) {
+            throw new BadRequestException("Unknown job type: " + type);
+        }
+        Job job;
+        try {
+            job = jobRepository.save(Job.builder()
+                    .type(type)
+                    .organizationId(organizationId)
+                    .status(JobStatus.QUEUED)
+                    .params(params != null ? objectMapper.writeValueAsString(params) : null)
+                    .createdAt(Instant.now())
+                    .build());
+        } catch (JsonProcessingException e) {
+            throw new BadRequestException("Invalid job parameters: " + e.getOriginalMessage());
+        }
+        // Start right away if a worker is idle instead of waiting for the next poll
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                jobRunner.dispatch();
+            }
+        });
+        return job;
+    }
+
+    @Override
+    @Transactional
+    public Job submitOnce(String type, UUID organizationId, Object params) {
+        return jobRepository.findFirstByTypeAndOrganizationIdAndStatusIn(type, organizationId,
+                        EnumSet.of(JobStatus.QUEUED, JobStatus.RUNNING))
+                .orElseGet(() -> submit(type, organizationId, params));
+    }
+
+    @Override
+    public Job getById(UUID id) {
+        return jobRepository.findById(id).orElseThrow(() -> new ResourceNotFoundException("Job not found with id: " + id));
+    }
+
+    @Override
+    @Transactional
+    public Job cancel(UUID id) {
+        Job job = getById(id);
+        if (jobRepository.requestCancel(id) == 0) {
+            throw new BadRequestException("Job " + id + " has already finished with status " + job.getStatus());
+        }
+        return jobRepository.findById(id).orElse(job);
+    }
+}
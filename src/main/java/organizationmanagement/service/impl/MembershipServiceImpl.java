@@ -0,0 +1,55 @@
+package organizationmanagement.service.impl;
+
+import lombok.RequiredArgsConstructor;
+import organizationmanagement.dto.UserMembershipDTO;
+import organizationmanagement.exception.BadRequestException;
+import organizationmanagement.repository.TeamRepository;
+import organizationmanagement.service.MembershipService;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class MembershipServiceImpl implements MembershipService {
+    private static final int MAX_BATCH_SIZE = 1000;
+    private static final int KIND_TEAM = 0;
+
+    private final TeamRepository teamRepository;
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<UUID, UserMembershipDTO> getMemberships(Collection<UUID> userIds) {
+        if (userIds == null || userIds.isEmpty()) {
+            throw new BadRequestException("At least one user id must be given.");
+        }
+        Set<UUID> distinctIds = userIds.stream().filter(Objects::nonNull).collect(Collectors.toCollection(LinkedHashSet::new));
+        if (distinctIds.size() > MAX_BATCH_SIZE) {
+            throw new BadRequestException("A membership lookup accepts at most " + MAX_BATCH_SIZE + " user ids.");
+        }
+
+        // Users without any membership are left out to keep the response compact
+        Map<UUID, UserMembershipDTO> memberships = new LinkedHashMap<>();
+        List<Object[]> rows = teamRepository.findMembershipsByUserIds(distinctIds);
+        for (Object[] row : rows) {
+            UUID userId = (UUID) row[0];
+            UUID unitId = (UUID) row[1];
+            UserMembershipDTO membership = memberships.computeIfAbsent(userId, id -> new UserMembershipDTO());
+            if (((Number) row[2]).intValue() == KIND_TEAM) {
+                membership.getTeamIds().add(unitId);
+            } else {
+                membership.getDepartmentIds().add(unitId);
+            }
+        }
+        return memberships;
+    }
+}
@@ -0,0 +1,85 @@
+package organizationmanagement.service.impl;
+
+import lombok.RequiredArgsConstructor;
+import organizationmanagement.repository.DepartmentRepository;
+import organizationmanagement.repository.OrganizationRepository;
+import organizationmanagement.repository.TeamRepository;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Set-based removal of organization subtrees: membership rows, then teams, then departments, in id chunks.
+ * Replaces JPA cascades, which load every unit and element collection and delete them row by row.
+ * Callers own the transaction; each chunk is a handful of statements whatever the chunk holds.
+ */
+@Component
+@RequiredArgsConstructor
+public class OrganizationDeletion {
+    public static final int CHUNK_SIZE = 500;
+
+    private final OrganizationRepository organizationRepository;
+    private final DepartmentRepository departmentRepository;
+    private final TeamRepository teamRepository;
+
+    /**
+     * Delete up to {@link #CHUNK_SIZE} teams of the organization with their memberships; returns how many were deleted
+     */
+    public int deleteTeamChunk(UUID organizationId) {
+        List<UUID> teamIds = teamRepository.findIdsByOrganizationId(organizationId, CHUNK_SIZE);
+        deleteTeams(organizationId, teamIds);
+        return teamIds.size();
+    }
+
+    /**
+     * Delete up to {@link #CHUNK_SIZE} departments with their memberships; their teams must already be gone
+     */
+    public int deleteDepartmentChunk(UUID organizationId) {
+        List<UUID> departmentIds = departmentRepository.findIdsByOrganizationId(organizationId, CHUNK_SIZE);
+        deleteDepartments(organizationId, departmentIds);
+        return departmentIds.size();
+    }
+
+    /**
+     * Delete whatever is left of the organization, then the organization itself
+     */
+    public void deleteOrganization(UUID organizationId) {
+        while (deleteTeamChunk(organizationId) > 0) {
+            // next chunk
+        }
+        while (deleteDepartmentChunk(organizationId) > 0) {
+            // next chunk
+        }
+        organizationRepository.deleteOrganizationById(organizationId);
+    }
+
+    /**
+     * Delete a department of the given organization with its teams; the organization is the partition key
+     */
+    public void deleteDepartment(UUID organizationId, UUID departmentId) {
+        List<UUID> teamIds = teamRepository.findIdsByDepartmentId(departmentId);
+        for (int from = 0; from < teamIds.size(); from += CHUNK_SIZE) {
+            deleteTeams(organizationId, teamIds.subList(from, Math.min(from + CHUNK_SIZE, teamIds.size())));
+        }
+        deleteDepartments(organizationId, List.of(departmentId));
+    }
+
+    private void deleteTeams(UUID organizationId, List<UUID> teamIds) {
+        if (teamIds.isEmpty()) {
+            return;
+        }
+        teamRepository.deleteUsersByTeamIds(organizationId, teamIds);
+        teamRepository.deleteSurveysByTeamIds(organizationId, teamIds);
+        teamRepository.deleteTeamsByIds(organizationId, teamIds);
+    }
+
+    private void deleteDepartments(UUID organizationId, List<UUID> departmentIds) {
+        if (departmentIds.isEmpty()) {
+            return;
+        }
+        departmentRepository.deleteUsersByDepartmentIds(organizationId, departmentIds);
+        departmentRepository.deleteSurveysByDepartmentIds(organizationId, departmentIds);
+        departmentRepository.deleteDepartmentsByIds(organizationId, departmentIds);
+    }
+}
@@ -0,0 +1,116 @@
+package organizationmanagement.service.impl;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.util.MinimalPrettyPrinter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import organizationmanagement.config.DataSourceWorkload;
+import organizationmanagement.service.OrganizationExportService;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.UUID;
+
+/**
+ * Streams an organization straight from forward-only JDBC cursors into the response, one JSON object per line.
+ * Rows are never collected, so memory stays flat however large the tenant is.
+ */
+@Slf4j
+@Service
+public class OrganizationExportServiceImpl implements OrganizationExportService {
+    // With autocommit off, the PostgreSQL driver fetches this many rows per round trip instead of the whole result
+    private static final int FETCH_SIZE = 1000;
+
+    private final JdbcTemplate cursorJdbcTemplate;
+    private final TransactionTemplate snapshotTransaction;
+    private final ObjectMapper objectMapper;
+
+    public OrganizationExportServiceImpl(DataSource dataSource,
+                                         PlatformTransactionManager transactionManager,
+                                         ObjectMapper objectMapper) {
+        this.cursorJdbcTemplate = new JdbcTemplate(dataSource);
+        this.cursorJdbcTemplate.setFetchSize(FETCH_SIZE);
+        // One snapshot for all queries, so memberships never reference units created mid-export
+        this.snapshotTransaction = new TransactionTemplate(transactionManager);
+        this.snapshotTransaction.setReadOnly(true);
+        this.snapshotTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public void exportOrganization(UUID organizationId, OutputStream out) throws IOException {
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(out);
+        generator.setPrettyPrinter(new MinimalPrettyPrinter("\n"));
+        try {
+            // Long-running scan: keep it off the pools that serve interactive requests
+            DataSourceWorkload.callAs(DataSourceWorkload.ADMIN, () -> snapshotTransaction.execute(status -> {
+                writeUnits(generator, organizationId);
+                writeMemberships(generator, organizationId);
+                return null;
+            }));
+        } catch (UncheckedIOException e) {
+            log.debug("Export of organization {} aborted: {}", organizationId, e.getCause().getMessage());
+            throw e.getCause();
+        }
+        generator.writeRaw('\n');
+        generator.flush();
+    }
+
+    private void writeUnits(JsonGenerator generator, UUID organizationId) {
+        cursorJdbcTemplate.query("SELECT id, name FROM organization WHERE id = ?",
+                rs -> writeLine(generator, "organization",
+                        "id", rs.getObject(1), "name", rs.getString(2)),
+                organizationId);
+        cursorJdbcTemplate.query("SELECT id, name FROM department WHERE organization_id = ? ORDER BY id",
+                rs -> writeLine(generator, "department",
+                        "id", rs.getObject(1), "name", rs.getString(2)),
+                organizationId);
+        cursorJdbcTemplate.query("SELECT t.id, t.name, t.department_id FROM team t " +
+                        "WHERE t.organization_id = ? ORDER BY t.department_id, t.id",
+                rs -> writeLine(generator, "team",
+                        "id", rs.getObject(1), "name", rs.getString(2), "departmentId", rs.getObject(3)),
+                organizationId);
+    }
+
+    private void writeMemberships(JsonGenerator generator, UUID organizationId) {
+        cursorJdbcTemplate.query("SELECT du.department_id, du.user_id FROM department_users du WHERE du.organization_id = ?",
+                rs -> writeLine(generator, "departmentUser",
+                        "departmentId", rs.getObject(1), "userId", rs.getObject(2)),
+                organizationId);
+        cursorJdbcTemplate.query("SELECT ds.department_id, ds.survey_id FROM department_surveys ds WHERE ds.organization_id = ?",
+                rs -> writeLine(generator, "departmentSurvey",
+                        "departmentId", rs.getObject(1), "surveyId", rs.getObject(2)),
+                organizationId);
+        cursorJdbcTemplate.query("SELECT tu.team_id, tu.user_id FROM team_users tu WHERE tu.organization_id = ?",
+                rs -> writeLine(generator, "teamUser",
+                        "teamId", rs.getObject(1), "userId", rs.getObject(2)),
+                organizationId);
+        cursorJdbcTemplate.query("SELECT ts.team_id, ts.survey_id FROM team_surveys ts WHERE ts.organization_id = ?",
+                rs -> writeLine(generator, "teamSurvey",
+                        "teamId", rs.getObject(1), "surveyId", rs.getObject(2)),
+                organizationId);
+    }
+
+    // fields are (name, value) pairs; null values are left out
+    private static void writeLine(JsonGenerator generator, String type, Object... fields) {
+        try {
+            generator.writeStartObject();
+            generator.writeStringField("type", type);
+            for (int i = 0; i < fields.length; i += 2) {
+                if (fields[i + 1] != null) {
+                    generator.writeStringField((String) fields[i], fields[i + 1].toString());
+                }
+            }
+            generator.writeEndObject();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
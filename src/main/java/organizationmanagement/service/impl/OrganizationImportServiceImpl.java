@@ -0,0 +1,373 @@
+package organizationmanagement.service.impl;
+
+import com.fasterxml.jackson.core.JsonLocation;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import organizationmanagement.dto.ImportRecordDTO;
+import organizationmanagement.dto.ImportResultDTO;
+import organizationmanagement.event.EntityChangeEvent;
+import organizationmanagement.exception.BadRequestException;
+import organizationmanagement.exception.ResourceNotFoundException;
+import organizationmanagement.model.Organization;
+import organizationmanagement.repository.DepartmentRepository;
+import organizationmanagement.repository.OrganizationRepository;
+import organizationmanagement.repository.TeamRepository;
+import organizationmanagement.service.OrganizationImportService;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Bulk structure import. The body is parsed record by record, names are checked against in-memory sets seeded
+ * with the organization's existing units, and rows go out as JDBC batches (rewritten into multi-row INSERTs by
+ * the driver), so a large tenant costs a few dozen round trips instead of one request per unit.
+ * Memberships go out as one array INSERT per batch instead, whose update count is exact, so memberships that
+ * already existed are not reported as imported.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OrganizationImportServiceImpl implements OrganizationImportService {
+    private static final int BATCH_SIZE = 1000;
+    private static final int MAX_RECORDS = 200000;
+    private static final int NAME_MIN_LENGTH = 2;
+    private static final int NAME_MAX_LENGTH = 100;
+
+    private static final String INSERT_DEPARTMENT = "INSERT INTO department (id, name, organization_id, version) VALUES (?, ?, ?, 0)";
+    private static final String INSERT_TEAM = "INSERT INTO team (id, name, department_id, organization_id, version) VALUES (?, ?, ?, ?, 0)";
+    // Parameters: organization id, then the unit ids and member ids as parallel uuid arrays
+    private static final String INSERT_DEPARTMENT_USER = membershipInsert("department_users", "department_id", "user_id");
+    private static final String INSERT_DEPARTMENT_SURVEY = membershipInsert("department_surveys", "department_id", "survey_id");
+    private static final String INSERT_TEAM_USER = membershipInsert("team_users", "team_id", "user_id");
+    private static final String INSERT_TEAM_SURVEY = membershipInsert("team_surveys", "team_id", "survey_id");
+
+    private final OrganizationRepository organizationRepository;
+    private final DepartmentRepository departmentRepository;
+    private final TeamRepository teamRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Override
+    @Transactional
+    public ImportResultDTO importStructure(UUID organizationId, InputStream body, boolean csv) throws IOException {
+        Organization org = organizationRepository.findById(organizationId)
+                .orElseThrow(() -> new ResourceNotFoundException("Organization not found with id: " + organizationId));
+
+        ImportSession session = new ImportSession(organizationId);
+        for (Object[] row : departmentRepository.findTreeRowsByOrganizationId(organizationId)) {
+            session.existingDepartment((UUID) row[0], (String) row[1]);
+        }
+        for (Object[] row : teamRepository.findTreeRowsByOrganizationId(organizationId)) {
+            session.existingTeam((UUID) row[0], (String) row[1], (UUID) row[2]);
+        }
+
+        try {
+            if (csv) {
+                readCsv(body, session);
+            } else {
+                readNdjson(body, session);
+            }
+            session.flush();
+        } catch (DataIntegrityViolationException e) {
+            throw new BadRequestException("Import conflicts with existing data: " + e.getMostSpecificCause().getMessage());
+        }
+
+        if (session.departmentsCreated + session.teamsCreated + session.membershipsImported > 0) {
+            // One event for the whole import instead of one per unit; listeners reload the organization
+            eventPublisher.publishEvent(EntityChangeEvent.of(org, EntityChangeEvent.ChangeType.BULK_CHANGED));
+        }
+        log.info("Imported {} departments, {} teams and {} memberships into organization {}",
+                session.departmentsCreated, session.teamsCreated, session.membershipsImported, organizationId);
+        return new ImportResultDTO(organizationId, session.departmentsCreated, session.teamsCreated, session.membershipsImported);
+    }
+
+    private void readNdjson(InputStream body, ImportSession session) throws IOException {
+        try (MappingIterator<ImportRecordDTO> records = objectMapper.readerFor(ImportRecordDTO.class).readValues(body)) {
+            while (records.hasNextValue()) {
+                ImportRecordDTO record = records.nextValue();
+                session.add(record, records.getCurrentLocation().getLineNr());
+            }
+        } catch (JsonProcessingException e) {
+            JsonLocation location = e.getLocation();
+            throw new BadRequestException("Malformed NDJSON" + (location != null ? " at line " + location.getLineNr() : "")
+                    + ": " + e.getOriginalMessage());
+        }
+    }
+
+    private void readCsv(InputStream body, ImportSession session) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        String headerLine = reader.readLine();
+        if (headerLine == null) {
+            throw new BadRequestException("Import body is empty.");
+        }
+        List<String> header = parseCsvLine(headerLine.replace("\uFEFF", ""));
+        int lineNr = 1;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNr++;
+            if (line.isBlank()) {
+                continue;
+            }
+            List<String> values = parseCsvLine(line);
+            ImportRecordDTO record = new ImportRecordDTO();
+            for (int i = 0; i < header.size() && i < values.size(); i++) {
+                setCsvField(record, header.get(i).trim(), values.get(i), lineNr);
+            }
+            session.add(record, lineNr);
+        }
+    }
+
+    private void setCsvField(ImportRecordDTO record, String column, String value, int lineNr) {
+        if (value.isEmpty()) {
+            return;
+        }
+        switch (column) {
+            case "type" -> record.setType(value);
+            case "id" -> record.setId(parseUuid(value, column, lineNr));
+            case "name" -> record.setName(value);
+            case "departmentId" -> record.setDepartmentId(parseUuid(value, column, lineNr));
+            case "department" -> record.setDepartment(value);
+            case "teamId" -> record.setTeamId(parseUuid(value, column, lineNr));
+            case "userId" -> record.setUserId(parseUuid(value, column, lineNr));
+            case "surveyId" -> record.setSurveyId(parseUuid(value, column, lineNr));
+            default -> { } // unknown columns are ignored, like unknown NDJSON fields
+        }
+    }
+
+    private UUID parseUuid(String value, String column, int lineNr) {
+        try {
+            return UUID.fromString(value.trim());
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Line " + lineNr + ": '" + column + "' is not a valid UUID.");
+        }
+    }
+
+    // RFC 4180 fields on a single line: quoted fields may contain commas and doubled quotes
+    private static List<String> parseCsvLine(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    /**
+     * Per-import state: what the organization already holds plus everything accepted so far, and the pending batches
+     */
+    private final class ImportSession {
+        private final UUID organizationId;
+        private final Map<String, UUID> departmentsByName = new HashMap<>();
+        private final Map<UUID, Set<String>> teamNamesByDepartment = new HashMap<>();
+        private final Set<UUID> teamIds = new HashSet<>();
+
+        private final List<Object[]> departments = new ArrayList<>();
+        private final List<Object[]> teams = new ArrayList<>();
+        // unit id, member id
+        private final List<UUID[]> departmentUsers = new ArrayList<>();
+        private final List<UUID[]> departmentSurveys = new ArrayList<>();
+        private final List<UUID[]> teamUsers = new ArrayList<>();
+        private final List<UUID[]> teamSurveys = new ArrayList<>();
+
+        private int records;
+        private int departmentsCreated;
+        private int teamsCreated;
+        private int membershipsImported;
+
+        ImportSession(UUID organizationId) {
+            this.organizationId = organizationId;
+        }
+
+        void existingDepartment(UUID id, String name) {
+            departmentsByName.put(name != null ? name.trim() : "", id);
+            teamNamesByDepartment.put(id, new HashSet<>());
+        }
+
+        void existingTeam(UUID id, String name, UUID departmentId) {
+            teamIds.add(id);
+            teamNamesByDepartment.computeIfAbsent(departmentId, k -> new HashSet<>()).add(name != null ? name.trim() : "");
+        }
+
+        void add(ImportRecordDTO record, int lineNr) {
+            if (++records > MAX_RECORDS) {
+                throw new BadRequestException("An import accepts at most " + MAX_RECORDS + " records.");
+            }
+            String type = record.getType() != null ? record.getType().trim() : "";
+            switch (type) {
+                case "organization" -> { }
+                case "department" -> addDepartment(record, lineNr);
+                case "team" -> addTeam(record, lineNr);
+                case "departmentUser" -> addMembership(departmentUsers, department(record, lineNr), require(record.getUserId(), "userId", lineNr));
+                case "departmentSurvey" -> addMembership(departmentSurveys, department(record, lineNr), require(record.getSurveyId(), "surveyId", lineNr));
+                case "teamUser" -> addMembership(teamUsers, team(record, lineNr), require(record.getUserId(), "userId", lineNr));
+                case "teamSurvey" -> addMembership(teamSurveys, team(record, lineNr), require(record.getSurveyId(), "surveyId", lineNr));
+                default -> throw new BadRequestException("Line " + lineNr + ": unknown record type '" + type + "'.");
+            }
+            if (pending() >= BATCH_SIZE) {
+                flush();
+            }
+        }
+
+        private void addDepartment(ImportRecordDTO record, int lineNr) {
+            String name = validName(record.getName(), "Department", lineNr);
+            if (departmentsByName.containsKey(name)) {
+                throw new BadRequestException("Line " + lineNr + ": a department with the name '" + name + "' already exists in this organization.");
+            }
+            UUID id = record.getId() != null ? record.getId() : UUID.randomUUID();
+            if (teamNamesByDepartment.containsKey(id)) {
+                throw new BadRequestException("Line " + lineNr + ": department id " + id + " is already in use.");
+            }
+            departmentsByName.put(name, id);
+            teamNamesByDepartment.put(id, new HashSet<>());
+            departments.add(new Object[]{id, name, organizationId});
+            departmentsCreated++;
+        }
+
+        private void addTeam(ImportRecordDTO record, int lineNr) {
+            String name = validName(record.getName(), "Team", lineNr);
+            UUID departmentId = record.getDepartmentId() != null ? record.getDepartmentId()
+                    : record.getDepartment() != null ? departmentsByName.get(record.getDepartment().trim()) : null;
+            Set<String> siblingNames = departmentId != null ? teamNamesByDepartment.get(departmentId) : null;
+            if (siblingNames == null) {
+                throw new BadRequestException("Line " + lineNr + ": team '" + name + "' refers to a department that is not part of this organization.");
+            }
+            if (!siblingNames.add(name)) {
+                throw new BadRequestException("Line " + lineNr + ": a team with the name '" + name + "' already exists in this department.");
+            }
+            UUID id = record.getId() != null ? record.getId() : UUID.randomUUID();
+            if (!teamIds.add(id)) {
+                throw new BadRequestException("Line " + lineNr + ": team id " + id + " is already in use.");
+            }
+            teams.add(new Object[]{id, name, departmentId, organizationId});
+            teamsCreated++;
+        }
+
+        private void addMembership(List<UUID[]> batch, UUID unitId, UUID memberId) {
+            batch.add(new UUID[]{unitId, memberId});
+        }
+
+        private UUID department(ImportRecordDTO record, int lineNr) {
+            UUID id = require(record.getDepartmentId(), "departmentId", lineNr);
+            if (!teamNamesByDepartment.containsKey(id)) {
+                throw new BadRequestException("Line " + lineNr + ": department " + id + " is not part of this organization.");
+            }
+            return id;
+        }
+
+        private UUID team(ImportRecordDTO record, int lineNr) {
+            UUID id = require(record.getTeamId(), "teamId", lineNr);
+            if (!teamIds.contains(id)) {
+                throw new BadRequestException("Line " + lineNr + ": team " + id + " is not part of this organization.");
+            }
+            return id;
+        }
+
+        private int pending() {
+            return departments.size() + teams.size() + departmentUsers.size() + departmentSurveys.size()
+                    + teamUsers.size() + teamSurveys.size();
+        }
+
+        // Parents before children, so foreign keys always resolve within the transaction
+        void flush() {
+            write(INSERT_DEPARTMENT, departments);
+            write(INSERT_TEAM, teams);
+            writeMemberships(INSERT_DEPARTMENT_USER, departmentUsers);
+            writeMemberships(INSERT_DEPARTMENT_SURVEY, departmentSurveys);
+            writeMemberships(INSERT_TEAM_USER, teamUsers);
+            writeMemberships(INSERT_TEAM_SURVEY, teamSurveys);
+        }
+
+        private void write(String sql, List<Object[]> rows) {
+            if (!rows.isEmpty()) {
+                jdbcTemplate.batchUpdate(sql, rows);
+                rows.clear();
+            }
+        }
+
+        // One statement per batch: rewritten batches report SUCCESS_NO_INFO, this reports the rows inserted
+        private void writeMemberships(String sql, List<UUID[]> rows) {
+            if (rows.isEmpty()) {
+                return;
+            }
+            UUID[] unitIds = new UUID[rows.size()];
+            UUID[] memberIds = new UUID[rows.size()];
+            for (int i = 0; i < rows.size(); i++) {
+                unitIds[i] = rows.get(i)[0];
+                memberIds[i] = rows.get(i)[1];
+            }
+            membershipsImported += jdbcTemplate.update(connection -> {
+                PreparedStatement statement = connection.prepareStatement(sql);
+                statement.setObject(1, organizationId);
+                statement.setArray(2, connection.createArrayOf("uuid", unitIds));
+                statement.setArray(3, connection.createArrayOf("uuid", memberIds));
+                return statement;
+            });
+            rows.clear();
+        }
+    }
+
+    // ON CONFLICT DO NOTHING also absorbs duplicates within the same batch
+    private static String membershipInsert(String table, String unitColumn, String memberColumn) {
+        return "INSERT INTO " + table + " (organization_id, " + unitColumn + ", " + memberColumn + ") " +
+                "SELECT CAST(? AS uuid), unit_id, member_id FROM unnest(CAST(? AS uuid[]), CAST(? AS uuid[])) AS m (unit_id, member_id) " +
+                "ON CONFLICT DO NOTHING";
+    }
+
+    private static UUID require(UUID value, String field, int lineNr) {
+        if (value == null) {
+            throw new BadRequestException("Line " + lineNr + ": '" + field + "' is required.");
+        }
+        return value;
+    }
+
+    private static String validName(String name, String kind, int lineNr) {
+        if (name == null || name.trim().isEmpty()) {
+            throw new BadRequestException("Line " + lineNr + ": " + kind + " name must not be empty.");
+        }
+        String trimmed = name.trim();
+        if (trimmed.length() < NAME_MIN_LENGTH || trimmed.length() > NAME_MAX_LENGTH) {
+            throw new BadRequestException("Line " + lineNr + ": " + kind + " name must be between "
+                    + NAME_MIN_LENGTH + " and " + NAME_MAX_LENGTH + " characters.");
+        }
+        return trimmed;
+    }
+}
@@ -1,29 +1,57 @@
 package organizationmanagement.service.impl;
 
+import organizationmanagement.config.DataSourceWorkload;
+import organizationmanagement.cache.ExistenceFilter;
+import organizationmanagement.event.EntityChangeEvent;
 import organizationmanagement.exception.BadRequestException;
 import organizationmanagement.exception.ResourceNotFoundException;
+import organizationmanagement.job.OrganizationDeleteJobHandler;
+import organizationmanagement.model.Job;
 import organizationmanagement.model.Organization;
 import organizationmanagement.repository.OrganizationRepository;
+import organizationmanagement.service.JobService;
 import organizationmanagement.service.OrganizationService;
-import lombok.RequiredArgsConstructor;
+import organizationmanagement.util.EntityTagUtil;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import java.util.List;
 import java.util.UUID;
 import java.util.regex.Pattern;
 
 @Service
-@RequiredArgsConstructor
 public class OrganizationServiceImpl implements OrganizationService {
     private final OrganizationRepository organizationRepository;
+    private final OrganizationDeletion organizationDeletion;
+    private final JobService jobService;
+    private final ExistenceFilter existenceFilter;
+    private final ApplicationEventPublisher eventPublisher;
+    private final long inlineDeleteUnitLimit;
     private static final int NAME_MIN_LENGTH = 2;
     private static final int NAME_MAX_LENGTH = 100;
     private static final Pattern NAME_PATTERN = Pattern.compile("^[a-zA-Z0-9\\s\\-']+$");
 
+    public OrganizationServiceImpl(OrganizationRepository organizationRepository,
+                                   OrganizationDeletion organizationDeletion,
+                                   JobService jobService,
+                                   ExistenceFilter existenceFilter,
+                                   ApplicationEventPublisher eventPublisher,
+                                   @Value("${organization.delete.inline-unit-limit:2000}") long inlineDeleteUnitLimit) {
+        this.organizationRepository = organizationRepository;
+        this.organizationDeletion = organizationDeletion;
+        this.jobService = jobService;
+        this.existenceFilter = existenceFilter;
+        this.eventPublisher = eventPublisher;
+        this.inlineDeleteUnitLimit = inlineDeleteUnitLimit;
+    }
+
 
     @Override
-    public List<Organization> getAll() { return organizationRepository.findAll(); }
+    public List<Organization> getAll() { return DataSourceWorkload.callAs(DataSourceWorkload.ADMIN, organizationRepository::findAll); }
 
     @Override
+    @Transactional
     public Organization create(Organization org) {
         validateOrganization(org);
         String normalizedName = org.getName().trim();
@@ -31,11 +59,15 @@ public class OrganizationServiceImpl implements OrganizationService {
         if (exists) {
             throw new BadRequestException("An organization with the name '" + org.getName().trim() + "' already exists.");
         }
-        return organizationRepository.save(org);
+        Organization saved = organizationRepository.save(org);
+        eventPublisher.publishEvent(EntityChangeEvent.of(saved, EntityChangeEvent.ChangeType.CREATED));
+        return saved;
     }
 
     @Override
-    public boolean exists(UUID id) { return organizationRepository.existsById(id); }
+    public boolean exists(UUID id) {
+        return existenceFilter.exists(EntityChangeEvent.EntityType.ORGANIZATION, id, organizationRepository::existsById);
+    }
 
     @Override
     public Organization getById(UUID id) {
@@ -43,19 +75,28 @@ public class OrganizationServiceImpl implements OrganizationService {
     }
 
     @Override
-    public Organization update(UUID id, Organization updatedOrg) {
+    @Transactional
+    public Organization update(UUID id, Organization updatedOrg, String ifMatch) {
         validateOrganization(updatedOrg);
         Organization existing = getById(id);
+        EntityTagUtil.requireMatch(ifMatch, EntityTagUtil.of(existing));
         existing.setName(updatedOrg.getName().trim());
-        return organizationRepository.save(existing);
+        Organization saved = organizationRepository.save(existing);
+        eventPublisher.publishEvent(EntityChangeEvent.of(saved, EntityChangeEvent.ChangeType.UPDATED));
+        return saved;
     }
 
     @Override
-    public void delete(UUID id) {
-        if (!organizationRepository.existsById(id)) {
-            throw new ResourceNotFoundException("Cannot delete. Organization not found with id: " + id);
+    @Transactional
+    public Job delete(UUID id) {
+        Organization org = organizationRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Cannot delete. Organization not found with id: " + id));
+        if (organizationRepository.countUnitsByOrganizationId(id) > inlineDeleteUnitLimit) {
+            return jobService.submitOnce(OrganizationDeleteJobHandler.TYPE, id, null);
         }
-        organizationRepository.deleteById(id);
+        organizationDeletion.deleteOrganization(id);
+        eventPublisher.publishEvent(EntityChangeEvent.of(org, EntityChangeEvent.ChangeType.DELETED));
+        return null;
     }
 
     private void validateOrganization(Organization org) {
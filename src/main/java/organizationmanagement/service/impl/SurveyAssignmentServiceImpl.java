@@ -0,0 +1,150 @@
+package organizationmanagement.service.impl;
+
+import feign.FeignException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import organizationmanagement.client.SurveyServiceClient;
+import organizationmanagement.dto.BulkSurveyAssignmentDTO;
+import organizationmanagement.dto.BulkSurveyAssignmentResultDTO;
+import organizationmanagement.dto.IdPageDTO;
+import organizationmanagement.event.EntityChangeEvent;
+import organizationmanagement.event.MembershipChangeEvent;
+import organizationmanagement.exception.BadRequestException;
+import organizationmanagement.exception.ResourceNotFoundException;
+import organizationmanagement.exception.ServiceUnavailableException;
+import organizationmanagement.repository.DepartmentRepository;
+import organizationmanagement.repository.TeamRepository;
+import organizationmanagement.service.SurveyAssignmentService;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SurveyAssignmentServiceImpl implements SurveyAssignmentService {
+    private static final int MAX_TARGETS = 10000;
+    private static final int DEFAULT_PAGE_SIZE = 500;
+    private static final int MAX_PAGE_SIZE = 5000;
+    private static final UUID FIRST_CURSOR = new UUID(0L, 0L);
+
+    private final TeamRepository teamRepository;
+    private final DepartmentRepository departmentRepository;
+    private final SurveyServiceClient surveyServiceClient;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Override
+    @Transactional
+    public BulkSurveyAssignmentResultDTO assignSurveyInBulk(UUID surveyId, BulkSurveyAssignmentDTO request, UUID organizationId) {
+        if (request == null) {
+            throw new BadRequestException("Bulk assignment request must not be empty.");
+        }
+        Set<UUID> teamIds = distinct(request.getTeamIds());
+        Set<UUID> departmentIds = distinct(request.getDepartmentIds());
+        Set<UUID> teamsOfDepartmentIds = distinct(request.getTeamsOfDepartmentIds());
+        if (!request.isAllTeams() && teamIds.isEmpty() && departmentIds.isEmpty() && teamsOfDepartmentIds.isEmpty()) {
+            throw new BadRequestException("At least one team, department or 'allTeams' must be given.");
+        }
+        if (teamIds.size() + departmentIds.size() + teamsOfDepartmentIds.size() > MAX_TARGETS) {
+            throw new BadRequestException("A bulk assignment accepts at most " + MAX_TARGETS + " ids.");
+        }
+
+        // Validated once for the whole rollout instead of once per unit
+        verifySurveyExists(surveyId);
+
+        int teamsAssigned = 0;
+        if (request.isAllTeams()) {
+            teamsAssigned += teamRepository.assignSurveyToAllTeams(surveyId, organizationId);
+        } else {
+            if (!teamIds.isEmpty()) {
+                teamsAssigned += teamRepository.assignSurveyToTeams(surveyId, teamIds, organizationId);
+            }
+            if (!teamsOfDepartmentIds.isEmpty()) {
+                teamsAssigned += teamRepository.assignSurveyToTeamsOfDepartments(surveyId, teamsOfDepartmentIds, organizationId);
+            }
+        }
+        int departmentsAssigned = departmentIds.isEmpty() ? 0
+                : departmentRepository.assignSurveyToDepartments(surveyId, departmentIds, organizationId);
+
+        if (teamsAssigned + departmentsAssigned > 0) {
+            // One organization-level event per rollout; consumers re-read the audience instead of N unit events
+            eventPublisher.publishEvent(new MembershipChangeEvent(EntityChangeEvent.EntityType.ORGANIZATION,
+                    MembershipChangeEvent.ChangeType.ADDED, MembershipChangeEvent.MemberType.SURVEY,
+                    organizationId, organizationId, surveyId));
+        }
+        log.debug("Survey {} assigned to {} teams and {} departments in organization {}",
+                surveyId, teamsAssigned, departmentsAssigned, organizationId);
+        return new BulkSurveyAssignmentResultDTO(surveyId, teamsAssigned, departmentsAssigned);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public IdPageDTO getTeamIdsBySurvey(UUID surveyId, UUID organizationId, UUID after, Integer limit) {
+        int pageSize = pageSize(limit);
+        return toPage(teamRepository.findTeamIdsBySurveyId(surveyId, organizationId, cursor(after), pageSize), pageSize);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public IdPageDTO getDepartmentIdsBySurvey(UUID surveyId, UUID organizationId, UUID after, Integer limit) {
+        int pageSize = pageSize(limit);
+        return toPage(departmentRepository.findDepartmentIdsBySurveyId(surveyId, organizationId, cursor(after), pageSize), pageSize);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public IdPageDTO getAudienceUserIdsBySurvey(UUID surveyId, UUID organizationId, UUID after, Integer limit) {
+        int pageSize = pageSize(limit);
+        return toPage(teamRepository.findAudienceUserIdsBySurveyId(surveyId, organizationId, cursor(after), pageSize), pageSize);
+    }
+
+    private int pageSize(Integer limit) {
+        if (limit == null) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new BadRequestException("Page size must be between 1 and " + MAX_PAGE_SIZE + ".");
+        }
+        return limit;
+    }
+
+    private UUID cursor(UUID after) {
+        return after != null ? after : FIRST_CURSOR;
+    }
+
+    private IdPageDTO toPage(List<UUID> ids, int pageSize) {
+        UUID nextCursor = ids.size() == pageSize ? ids.get(ids.size() - 1) : null;
+        return new IdPageDTO(ids, nextCursor);
+    }
+
+    private void verifySurveyExists(UUID surveyId) {
+        try {
+            ResponseEntity<Boolean> surveyExistsResponse = surveyServiceClient.surveyExists(surveyId);
+            if (surveyExistsResponse.getBody() == null || !surveyExistsResponse.getBody()) {
+                throw new ResourceNotFoundException("Survey not found with id: " + surveyId);
+            }
+        } catch (FeignException.NotFound e) {
+            throw new ResourceNotFoundException("Survey not found with id: " + surveyId);
+        } catch (FeignException e) {
+            throw new ServiceUnavailableException("Survey service unavailable: " + e.getMessage());
+        }
+    }
+
+    private Set<UUID> distinct(List<UUID> ids) {
+        Set<UUID> result = new LinkedHashSet<>();
+        if (ids != null) {
+            for (UUID id : ids) {
+                if (id != null) {
+                    result.add(id);
+                }
+            }
+        }
+        return result;
+    }
+}
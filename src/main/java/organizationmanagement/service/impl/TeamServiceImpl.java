@@ -1,7 +1,13 @@
 package organizationmanagement.service.impl;
 
-import organizationmanagement.client.SurveyServiceClient;
-import organizationmanagement.client.UserServiceClient;
+import organizationmanagement.client.AsyncServiceClient;
+import organizationmanagement.client.AsyncSurveyServiceClient;
+import organizationmanagement.client.AsyncUserServiceClient;
+import organizationmanagement.config.DataSourceWorkload;
+import organizationmanagement.cache.ExistenceFilter;
+import organizationmanagement.cache.UserDirectoryCache;
+import organizationmanagement.event.EntityChangeEvent;
+import organizationmanagement.event.MembershipChangeEvent;
 import organizationmanagement.exception.*;
 import organizationmanagement.model.Department;
 import organizationmanagement.model.Team;
@@ -9,12 +15,16 @@ import organizationmanagement.repository.DepartmentRepository;
 import organizationmanagement.repository.TeamRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.http.ResponseEntity;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import organizationmanagement.service.TeamService;
+import organizationmanagement.util.EntityTagUtil;
+import organizationmanagement.util.SingleFlight;
 import organizationmanagement.dto.UserDTO;
 import java.util.ArrayList;
 
@@ -24,22 +34,34 @@ import java.util.ArrayList;
 public class TeamServiceImpl implements TeamService {
     private final TeamRepository teamRepository;
     private final DepartmentRepository departmentRepository;
-    private final UserServiceClient userServiceClient;
-    private final SurveyServiceClient surveyServiceClient;
+    private final AsyncUserServiceClient asyncUserServiceClient;
+    private final AsyncSurveyServiceClient asyncSurveyServiceClient;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ExistenceFilter existenceFilter;
+    private final UserDirectoryCache userDirectoryCache;
+
+    // Gateway and sibling services resolve the same users' teams in bursts, e.g. right after a deploy
+    private final SingleFlight<UUID, Optional<UUID>> teamIdByUser = new SingleFlight<>();
 
     @Override
-    public List<Team> getAll() { return teamRepository.findAll(); }
+    public List<Team> getAll() { return DataSourceWorkload.callAs(DataSourceWorkload.ADMIN, teamRepository::findAll); }
 
     @Override
     public Team getById(UUID id) { return teamRepository.findById(id).orElseThrow(() -> new ResourceNotFoundException("Team not found with id: " + id)); }
 
     @Override
-    public void delete(UUID id) { if (!teamRepository.existsById(id)) { throw new ResourceNotFoundException("Team not found with id: " + id); } teamRepository.deleteById(id); }
+    @Transactional
+    public void delete(UUID id) {
+        Team team = getById(id);
+        teamRepository.delete(team);
+        eventPublisher.publishEvent(EntityChangeEvent.of(team, EntityChangeEvent.ChangeType.DELETED));
+    }
 
     @Override
     public List<Team> getByDepartmentId(UUID departmentId) { return teamRepository.findByDepartmentId(departmentId); }
 
     @Override
+    @Transactional
     public Team createUnderDepartment(UUID deptId, Team team) {
         validateTeamName(team.getName());
         Department department = departmentRepository.findById(deptId).orElseThrow(() -> new ResourceNotFoundException("Department not found with id: " + deptId));
@@ -48,13 +70,17 @@ public class TeamServiceImpl implements TeamService {
             throw new BadRequestException("A team with the name '" + team.getName().trim() + "' already exists in this department.");
         }
         team.setDepartment(department);
-        return teamRepository.save(team);
+        Team saved = teamRepository.save(team);
+        eventPublisher.publishEvent(EntityChangeEvent.of(saved, EntityChangeEvent.ChangeType.CREATED));
+        return saved;
     }
 
     @Override
-    public Team update(UUID id, UUID departmentId, Team updatedTeam) {
+    @Transactional
+    public Team update(UUID id, UUID departmentId, Team updatedTeam, String ifMatch) {
         validateTeamName(updatedTeam.getName());
         Team existingTeam = teamRepository.findById(id).orElseThrow(() -> new ResourceNotFoundException("Team not found with id: " + id));
+        EntityTagUtil.requireMatch(ifMatch, EntityTagUtil.of(existingTeam));
         Department department = departmentRepository.findById(departmentId).orElseThrow(() -> new ResourceNotFoundException("Department not found with id: " + departmentId));
         boolean exists = teamRepository.existsByNameAndDepartmentId(updatedTeam.getName().trim(), departmentId);
         if (exists && !existingTeam.getName().equalsIgnoreCase(updatedTeam.getName().trim())) {
@@ -62,7 +88,9 @@ public class TeamServiceImpl implements TeamService {
         }
         existingTeam.setName(updatedTeam.getName().trim());
         existingTeam.setDepartment(department);
-        return teamRepository.save(existingTeam);
+        Team saved = teamRepository.save(existingTeam);
+        eventPublisher.publishEvent(EntityChangeEvent.of(saved, EntityChangeEvent.ChangeType.UPDATED));
+        return saved;
     }
 
     @Override
@@ -74,9 +102,11 @@ public class TeamServiceImpl implements TeamService {
     }
 
     @Override
+    @Transactional
     public void deleteByIdAndOrganization(UUID id, UUID organizationId) {
         Team team = getByIdAndOrganization(id, organizationId);
         teamRepository.delete(team);
+        eventPublisher.publishEvent(EntityChangeEvent.of(team, EntityChangeEvent.ChangeType.DELETED));
     }
 
     @Override
@@ -86,6 +116,7 @@ public class TeamServiceImpl implements TeamService {
     }
 
     @Override
+    @Transactional
     public Team createUnderDepartmentInOrganization(UUID deptId, Team team, UUID organizationId) {
         validateTeamName(team.getName());
         Department department = departmentRepository.findByIdAndOrganizationId(deptId, organizationId).orElseThrow(() -> new ResourceNotFoundException("Department not found with id: " + deptId + " in organization: " + organizationId));
@@ -94,13 +125,17 @@ public class TeamServiceImpl implements TeamService {
             throw new BadRequestException("A team with the name '" + team.getName().trim() + "' already exists in this department.");
         }
         team.setDepartment(department);
-        return teamRepository.save(team);
+        Team saved = teamRepository.save(team);
+        eventPublisher.publishEvent(EntityChangeEvent.of(saved, EntityChangeEvent.ChangeType.CREATED));
+        return saved;
     }
 
     @Override
-    public Team updateInOrganization(UUID id, UUID departmentId, Team updatedTeam, UUID organizationId) {
+    @Transactional
+    public Team updateInOrganization(UUID id, UUID departmentId, Team updatedTeam, UUID organizationId, String ifMatch) {
         validateTeamName(updatedTeam.getName());
         Team existingTeam = getByIdAndOrganization(id, organizationId);
+        EntityTagUtil.requireMatch(ifMatch, EntityTagUtil.of(existingTeam));
         Department department = departmentRepository.findByIdAndOrganizationId(departmentId, organizationId).orElseThrow(() -> new ResourceNotFoundException("Department not found with id: " + departmentId + " in organization: " + organizationId));
         boolean exists = teamRepository.existsByNameAndDepartmentId(updatedTeam.getName().trim(), departmentId);
         if (exists && !existingTeam.getName().equalsIgnoreCase(updatedTeam.getName().trim())) {
@@ -108,7 +143,9 @@ public class TeamServiceImpl implements TeamService {
         }
         existingTeam.setName(updatedTeam.getName().trim());
         existingTeam.setDepartment(department);
-        return teamRepository.save(existingTeam);
+        Team saved = teamRepository.save(existingTeam);
+        eventPublisher.publishEvent(EntityChangeEvent.of(saved, EntityChangeEvent.ChangeType.UPDATED));
+        return saved;
     }
 
     private void validateTeamName(String name) {
@@ -123,69 +160,88 @@ public class TeamServiceImpl implements TeamService {
 
     @Override
     @Transactional
-    public void assignUserToTeamInOrganization(UUID teamId, UUID userId, UUID organizationId) {
-        Team team = teamRepository.findByIdAndDepartmentOrganizationId(teamId, organizationId).orElseThrow(() -> new ResourceNotFoundException("Team not found with id " + teamId + " in organization " + organizationId));
-        ResponseEntity<Boolean> userExistsResponse = userServiceClient.userExists(userId);
-        if (userExistsResponse.getBody() == null || !userExistsResponse.getBody()) {
+    public boolean assignUserToTeamInOrganization(UUID teamId, UUID userId, UUID organizationId) {
+        // Remote check runs while the team is looked up
+        CompletableFuture<Boolean> userExists = asyncUserServiceClient.userExists(userId);
+        requireTeamInOrganization(teamId, organizationId);
+        if (!AsyncServiceClient.await(userExists)) {
             throw new ResourceNotFoundException("User not found with id: " + userId);
         }
-        if (team.getUserIds().contains(userId)) {
-            throw new BadRequestException("User is already assigned to this team");
+        boolean added = teamRepository.addUser(organizationId, teamId, userId) > 0;
+        if (added) {
+            publishMembershipChange(teamId, organizationId, MembershipChangeEvent.MemberType.USER, userId, MembershipChangeEvent.ChangeType.ADDED);
         }
-        team.getUserIds().add(userId);
-        teamRepository.save(team);
+        return added;
     }
 
     @Override
     @Transactional
-    public void removeUserFromTeamInOrganization(UUID teamId, UUID userId, UUID organizationId) {
-        Team team = teamRepository.findByIdAndDepartmentOrganizationId(teamId, organizationId).orElseThrow(() -> new ResourceNotFoundException("Team not found with id " + teamId + " in organization " + organizationId));
-        if (!team.getUserIds().contains(userId)) {
-            throw new BadRequestException("User is not assigned to this team");
+    public boolean removeUserFromTeamInOrganization(UUID teamId, UUID userId, UUID organizationId) {
+        requireTeamInOrganization(teamId, organizationId);
+        boolean removed = teamRepository.removeUser(organizationId, teamId, userId) > 0;
+        if (removed) {
+            publishMembershipChange(teamId, organizationId, MembershipChangeEvent.MemberType.USER, userId, MembershipChangeEvent.ChangeType.REMOVED);
         }
-        team.getUserIds().remove(userId);
-        teamRepository.save(team);
+        return removed;
     }
 
     @Override
     @Transactional
-    public void assignSurveyToTeamInOrganization(UUID teamId, UUID surveyId, UUID organizationId) {
-        Team team = teamRepository.findByIdAndDepartmentOrganizationId(teamId, organizationId).orElseThrow(() -> new ResourceNotFoundException("Team not found with id " + teamId + " in organization " + organizationId));
-        ResponseEntity<Boolean> surveyExistsResponse = surveyServiceClient.surveyExists(surveyId);
-        if (surveyExistsResponse.getBody() == null || !surveyExistsResponse.getBody()) {
+    public boolean assignSurveyToTeamInOrganization(UUID teamId, UUID surveyId, UUID organizationId) {
+        // Remote check runs while the team is looked up
+        CompletableFuture<Boolean> surveyExists = asyncSurveyServiceClient.surveyExists(surveyId);
+        requireTeamInOrganization(teamId, organizationId);
+        if (!AsyncServiceClient.await(surveyExists)) {
             throw new ResourceNotFoundException("Survey not found with id: " + surveyId);
         }
-        if (team.getSurveyIds().contains(surveyId)) {
-            throw new BadRequestException("Survey is already assigned to this team");
+        boolean added = teamRepository.addSurvey(organizationId, teamId, surveyId) > 0;
+        if (added) {
+            publishMembershipChange(teamId, organizationId, MembershipChangeEvent.MemberType.SURVEY, surveyId, MembershipChangeEvent.ChangeType.ADDED);
         }
-        team.getSurveyIds().add(surveyId);
-        teamRepository.save(team);
+        return added;
     }
 
     @Override
     @Transactional
-    public void removeSurveyFromTeamInOrganization(UUID teamId, UUID surveyId, UUID organizationId) {
-        Team team = teamRepository.findByIdAndDepartmentOrganizationId(teamId, organizationId).orElseThrow(() -> new ResourceNotFoundException("Team not found with id " + teamId + " in organization " + organizationId));
-        if (!team.getSurveyIds().contains(surveyId)) {
-            throw new BadRequestException("Survey is not assigned to this team");
+    public boolean removeSurveyFromTeamInOrganization(UUID teamId, UUID surveyId, UUID organizationId) {
+        requireTeamInOrganization(teamId, organizationId);
+        boolean removed = teamRepository.removeSurvey(organizationId, teamId, surveyId) > 0;
+        if (removed) {
+            publishMembershipChange(teamId, organizationId, MembershipChangeEvent.MemberType.SURVEY, surveyId, MembershipChangeEvent.ChangeType.REMOVED);
         }
-        team.getSurveyIds().remove(surveyId);
-        teamRepository.save(team);
+        return removed;
+    }
+
+    private void requireTeamInOrganization(UUID teamId, UUID organizationId) {
+        if (!teamRepository.existsByIdAndDepartmentOrganizationId(teamId, organizationId)) {
+            throw new ResourceNotFoundException("Team not found with id " + teamId + " in organization " + organizationId);
+        }
+    }
+
+    private void publishMembershipChange(UUID teamId, UUID organizationId, MembershipChangeEvent.MemberType memberType,
+                                         UUID memberId, MembershipChangeEvent.ChangeType changeType) {
+        eventPublisher.publishEvent(new MembershipChangeEvent(EntityChangeEvent.EntityType.TEAM, changeType, memberType,
+                organizationId, teamId, memberId));
     }
 
     @Override
     public boolean existsById(UUID id) {
-        return teamRepository.existsById(id);
+        return existenceFilter.exists(EntityChangeEvent.EntityType.TEAM, id, teamRepository::existsById);
     }
 
     @Override
     public Team findByUserId(UUID userId) {
-        return teamRepository.findAll().stream()
-            .filter(team -> team.getUserIds() != null && team.getUserIds().contains(userId))
+        return teamRepository.findByMemberUserId(userId).stream()
             .findFirst()
             .orElseThrow(() -> new ResourceNotFoundException("Team not found for userId: " + userId));
     }
 
+    @Override
+    public UUID findIdByUserId(UUID userId) {
+        return teamIdByUser.execute(userId, () -> teamRepository.findIdsByMemberUserId(userId).stream().findFirst())
+            .orElseThrow(() -> new ResourceNotFoundException("Team not found for userId: " + userId));
+    }
+
     @Override
     public List<UserDTO> getUsersForTeam(UUID teamId, UUID organizationId) {
         Team team = teamRepository.findByIdAndDepartmentOrganizationId(teamId, organizationId)
@@ -193,7 +249,6 @@ public class TeamServiceImpl implements TeamService {
         if (team.getUserIds() == null || team.getUserIds().isEmpty()) {
             return new ArrayList<>();
         }
-        ResponseEntity<List<UserDTO>> response = userServiceClient.getUsersByIds(new ArrayList<>(team.getUserIds()));
-        return response.getBody() != null ? response.getBody() : new ArrayList<>();
+        return userDirectoryCache.getUsers(team.getUserIds());
     }
 } 
\ No newline at end of file
@@ -0,0 +1,101 @@
+package organizationmanagement.service.impl;
+
+import lombok.RequiredArgsConstructor;
+import organizationmanagement.dto.NameMatchDTO;
+import organizationmanagement.dto.NameSearchResultDTO;
+import organizationmanagement.exception.BadRequestException;
+import organizationmanagement.repository.DepartmentRepository;
+import organizationmanagement.repository.TeamRepository;
+import organizationmanagement.service.UnitSearchService;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+
+/**
+ * Name search over an organization's teams and departments for type-ahead pickers, served by the
+ * trigram and prefix indexes instead of clients downloading and filtering the full lists
+ */
+@Service
+@RequiredArgsConstructor
+public class UnitSearchServiceImpl implements UnitSearchService {
+    private static final int MAX_QUERY_LENGTH = 100;
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_PAGE = 50;
+
+    private final TeamRepository teamRepository;
+    private final DepartmentRepository departmentRepository;
+
+    @Override
+    @Transactional(readOnly = true)
+    public NameSearchResultDTO searchTeams(UUID organizationId, String query, Integer page, Integer size) {
+        String normalized = normalize(query);
+        int pageNumber = page(page);
+        int pageSize = pageSize(size);
+        // One row past the page tells whether there is a next one
+        List<Object[]> rows = teamRepository.searchByName(organizationId, normalized, prefixPattern(normalized),
+                pageSize + 1, pageNumber * pageSize);
+        List<NameMatchDTO> items = new ArrayList<>(Math.min(rows.size(), pageSize));
+        for (int i = 0; i < rows.size() && i < pageSize; i++) {
+            Object[] row = rows.get(i);
+            items.add(new NameMatchDTO((UUID) row[0], (String) row[1], (UUID) row[2], ((Number) row[3]).doubleValue()));
+        }
+        return new NameSearchResultDTO(items, pageNumber, pageSize, rows.size() > pageSize);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public NameSearchResultDTO searchDepartments(UUID organizationId, String query, Integer page, Integer size) {
+        String normalized = normalize(query);
+        int pageNumber = page(page);
+        int pageSize = pageSize(size);
+        List<Object[]> rows = departmentRepository.searchByName(organizationId, normalized, prefixPattern(normalized),
+                pageSize + 1, pageNumber * pageSize);
+        List<NameMatchDTO> items = new ArrayList<>(Math.min(rows.size(), pageSize));
+        for (int i = 0; i < rows.size() && i < pageSize; i++) {
+            Object[] row = rows.get(i);
+            items.add(new NameMatchDTO((UUID) row[0], (String) row[1], null, ((Number) row[2]).doubleValue()));
+        }
+        return new NameSearchResultDTO(items, pageNumber, pageSize, rows.size() > pageSize);
+    }
+
+    private String normalize(String query) {
+        if (query == null || query.isBlank()) {
+            throw new BadRequestException("Search query must not be empty.");
+        }
+        String normalized = query.trim().toLowerCase(Locale.ROOT);
+        if (normalized.length() > MAX_QUERY_LENGTH) {
+            throw new BadRequestException("Search query must be at most " + MAX_QUERY_LENGTH + " characters.");
+        }
+        return normalized;
+    }
+
+    // LIKE wildcards in the query are matched literally
+    private String prefixPattern(String normalized) {
+        return normalized.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_") + "%";
+    }
+
+    private int page(Integer page) {
+        if (page == null) {
+            return 0;
+        }
+        if (page < 0 || page > MAX_PAGE) {
+            throw new BadRequestException("Page must be between 0 and " + MAX_PAGE + ".");
+        }
+        return page;
+    }
+
+    private int pageSize(Integer size) {
+        if (size == null) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new BadRequestException("Page size must be between 1 and " + MAX_PAGE_SIZE + ".");
+        }
+        return size;
+    }
+}
@@ -0,0 +1,74 @@
+package organizationmanagement.service.impl;
+
+import lombok.RequiredArgsConstructor;
+import organizationmanagement.cache.OrganizationTree;
+import organizationmanagement.cache.OrganizationTreeCache;
+import organizationmanagement.dto.DepartmentStatsDTO;
+import organizationmanagement.dto.OrganizationStatsDTO;
+import organizationmanagement.dto.UnitStatsDTO;
+import organizationmanagement.repository.TeamRepository;
+import organizationmanagement.service.UnitStatsService;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Member and survey counts per unit, computed with GROUP BY over the membership tables: no user-service
+ * calls and no element collections loaded. Names and structure come from the in-memory hierarchy.
+ */
+@Service
+@RequiredArgsConstructor
+public class UnitStatsServiceImpl implements UnitStatsService {
+    private static final int TEAM_USERS = 0;
+    private static final int TEAM_SURVEYS = 1;
+    private static final int DEPARTMENT_USERS = 2;
+    private static final int DEPARTMENT_SURVEYS = 3;
+
+    private final TeamRepository teamRepository;
+    private final OrganizationTreeCache organizationTreeCache;
+
+    @Override
+    @Transactional(readOnly = true)
+    public OrganizationStatsDTO getStats(UUID organizationId) {
+        OrganizationTree tree = organizationTreeCache.get(organizationId);
+
+        // Direct counts per unit, indexed by the kind constants above
+        List<Map<UUID, Long>> direct = List.of(new HashMap<>(), new HashMap<>(), new HashMap<>(), new HashMap<>());
+        for (Object[] row : teamRepository.countMembershipsByOrganizationId(organizationId)) {
+            direct.get(((Number) row[0]).intValue()).put((UUID) row[1], ((Number) row[2]).longValue());
+        }
+
+        Map<UUID, long[]> departmentTotals = new HashMap<>();
+        long[] organizationTotals = {0L, 0L};
+        for (Object[] row : teamRepository.countDistinctMembersByDepartment(organizationId)) {
+            long[] totals = {((Number) row[2]).longValue(), ((Number) row[3]).longValue()};
+            if (((Number) row[0]).intValue() == 1) {
+                organizationTotals = totals;
+            } else if (row[1] != null) {
+                departmentTotals.put((UUID) row[1], totals);
+            }
+        }
+
+        List<DepartmentStatsDTO> departments = new ArrayList<>(tree.departmentCount());
+        for (int i = 0; i < tree.departmentCount(); i++) {
+            UUID id = tree.departmentId(i);
+            long[] totals = departmentTotals.getOrDefault(id, new long[]{0L, 0L});
+            departments.add(new DepartmentStatsDTO(id, tree.departmentName(i),
+                    direct.get(DEPARTMENT_USERS).getOrDefault(id, 0L), direct.get(DEPARTMENT_SURVEYS).getOrDefault(id, 0L),
+                    totals[0], totals[1], new ArrayList<>()));
+        }
+        for (int i = 0; i < tree.teamCount(); i++) {
+            UUID id = tree.teamId(i);
+            departments.get(tree.teamDepartment(i)).getTeams().add(new UnitStatsDTO(id, tree.teamName(i),
+                    direct.get(TEAM_USERS).getOrDefault(id, 0L), direct.get(TEAM_SURVEYS).getOrDefault(id, 0L)));
+        }
+
+        return new OrganizationStatsDTO(organizationId, tree.getOrganizationName(),
+                tree.departmentCount(), tree.teamCount(), organizationTotals[0], organizationTotals[1], departments);
+    }
+}
@@ -0,0 +1,118 @@
+package organizationmanagement.util;
+
+import jakarta.servlet.http.HttpServletRequest;
+import organizationmanagement.exception.PreconditionFailedException;
+import organizationmanagement.model.Department;
+import organizationmanagement.model.Organization;
+import organizationmanagement.model.Team;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.List;
+
+/**
+ * Strong ETags derived from entity versions. Each tag covers every entity that appears in the
+ * representation, so a team's tag changes when its department or organization is renamed.
+ * JSON, Smile and CBOR bodies of the same entity are different representations and get different tags.
+ */
+public final class EntityTagUtil {
+    private static final MediaType SMILE = MediaType.parseMediaType("application/x-jackson-smile");
+    private static final MediaType CBOR = MediaType.parseMediaType("application/cbor");
+
+    private EntityTagUtil() {
+    }
+
+    public static String of(Organization org) {
+        return quote(organizationPart(org));
+    }
+
+    public static String of(Department dept) {
+        return quote(departmentPart(dept));
+    }
+
+    public static String of(Team team) {
+        return quote("t" + version(team.getVersion()) + "." + departmentPart(team.getDepartment()));
+    }
+
+    /**
+     * Tag of the organization hierarchy, from the content fingerprint of the in-memory tree
+     */
+    public static String ofHierarchy(long fingerprint) {
+        return quote("h" + Long.toHexString(fingerprint));
+    }
+
+    /**
+     * Enforce an If-Match header (null when absent) against the current tag. Called inside the updating
+     * transaction, so together with @Version a write based on a stale read fails instead of being lost.
+     */
+    public static void requireMatch(String ifMatch, String currentTag) {
+        if (ifMatch == null) {
+            return;
+        }
+        for (String tag : ifMatch.split(",")) {
+            String candidate = tag.trim();
+            // Weak tags never match, If-Match uses the strong comparison
+            if (candidate.equals("*") || candidate.equals(currentTag)) {
+                return;
+            }
+        }
+        throw new PreconditionFailedException("The resource was modified since it was read; reload it and retry");
+    }
+
+    private static String departmentPart(Department dept) {
+        if (dept == null) {
+            return "d-";
+        }
+        return "d" + version(dept.getVersion()) + "." + organizationPart(dept.getOrganization());
+    }
+
+    private static String organizationPart(Organization org) {
+        return org == null ? "o-" : "o" + version(org.getVersion());
+    }
+
+    private static long version(Long version) {
+        return version != null ? version : 0L;
+    }
+
+    private static String quote(String value) {
+        return "\"" + value + format() + "\"";
+    }
+
+    // Suffix of the format the current request negotiates: the first acceptable type by quality, JSON by default
+    private static String format() {
+        if (!(RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes)) {
+            return "";
+        }
+        HttpServletRequest request = attributes.getRequest();
+        String accept = request.getHeader(HttpHeaders.ACCEPT);
+        if (accept == null || accept.isBlank()) {
+            return "";
+        }
+        try {
+            List<MediaType> mediaTypes = MediaType.parseMediaTypes(accept);
+            // MediaType orders by quality first, then specificity
+            MimeTypeUtils.sortBySpecificity(mediaTypes);
+            for (MediaType mediaType : mediaTypes) {
+                if (mediaType.getQualityValue() == 0) {
+                    continue;
+                }
+                if (mediaType.isCompatibleWith(MediaType.APPLICATION_JSON)) {
+                    return "";
+                }
+                if (mediaType.isCompatibleWith(SMILE)) {
+                    return ".smile";
+                }
+                if (mediaType.isCompatibleWith(CBOR)) {
+                    return ".cbor";
+                }
+            }
+        } catch (InvalidMediaTypeException e) {
+            // MVC rejects the request with 406 anyway
+        }
+        return "";
+    }
+}
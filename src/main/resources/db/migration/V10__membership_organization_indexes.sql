@@ -0,0 +1,20 @@
+-- Membership rows by organization (aggregates, export, deletion), covering so counts are index-only scans.
+-- Partitioned tables already lead their primary key with organization_id and get no second copy.
+DO $$
+DECLARE
+    membership record;
+BEGIN
+    FOR membership IN
+        SELECT * FROM (VALUES ('team_users', 'team_id', 'user_id'),
+                              ('team_surveys', 'team_id', 'survey_id'),
+                              ('department_users', 'department_id', 'user_id'),
+                              ('department_surveys', 'department_id', 'survey_id')) AS m (table_name, unit_column, member_column)
+    LOOP
+        IF (SELECT relkind FROM pg_class WHERE oid = membership.table_name::regclass) = 'r' THEN
+            EXECUTE format('CREATE INDEX IF NOT EXISTS %I ON %I (organization_id, %I, %I)',
+                           'idx_' || membership.table_name || '_organization', membership.table_name,
+                           membership.unit_column, membership.member_column);
+        END IF;
+    END LOOP;
+END
+$$;
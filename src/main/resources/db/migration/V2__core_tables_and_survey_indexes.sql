@@ -0,0 +1,49 @@
+-- Core tables, matching the JPA mappings, so later migrations can index them on a fresh database
+CREATE TABLE IF NOT EXISTS organization (
+    id   uuid NOT NULL PRIMARY KEY,
+    name varchar(255)
+);
+
+CREATE TABLE IF NOT EXISTS department (
+    id              uuid NOT NULL PRIMARY KEY,
+    name            varchar(255),
+    organization_id uuid REFERENCES organization (id)
+);
+
+CREATE TABLE IF NOT EXISTS team (
+    id            uuid NOT NULL PRIMARY KEY,
+    name          varchar(255),
+    department_id uuid REFERENCES department (id)
+);
+
+CREATE TABLE IF NOT EXISTS department_users (
+    department_id uuid NOT NULL REFERENCES department (id),
+    user_id       uuid NOT NULL,
+    PRIMARY KEY (department_id, user_id)
+);
+
+CREATE TABLE IF NOT EXISTS department_surveys (
+    department_id uuid NOT NULL REFERENCES department (id),
+    survey_id     uuid NOT NULL,
+    PRIMARY KEY (department_id, survey_id)
+);
+
+CREATE TABLE IF NOT EXISTS team_users (
+    team_id uuid NOT NULL REFERENCES team (id),
+    user_id uuid NOT NULL,
+    PRIMARY KEY (team_id, user_id)
+);
+
+CREATE TABLE IF NOT EXISTS team_surveys (
+    team_id   uuid NOT NULL REFERENCES team (id),
+    survey_id uuid NOT NULL,
+    PRIMARY KEY (team_id, survey_id)
+);
+
+-- Hierarchy foreign keys are not indexed by Hibernate
+CREATE INDEX IF NOT EXISTS idx_department_organization_id ON department (organization_id);
+CREATE INDEX IF NOT EXISTS idx_team_department_id ON team (department_id);
+
+-- Reverse survey lookups (which units have a survey), ordered for keyset pagination
+CREATE INDEX IF NOT EXISTS idx_team_surveys_survey_team ON team_surveys (survey_id, team_id);
+CREATE INDEX IF NOT EXISTS idx_department_surveys_survey_department ON department_surveys (survey_id, department_id);
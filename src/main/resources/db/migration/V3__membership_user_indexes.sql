@@ -0,0 +1,3 @@
+-- Membership lookups by user (single and batch), covering so the unit id comes from the index
+CREATE INDEX IF NOT EXISTS idx_team_users_user_team ON team_users (user_id, team_id);
+CREATE INDEX IF NOT EXISTS idx_department_users_user_department ON department_users (user_id, department_id);
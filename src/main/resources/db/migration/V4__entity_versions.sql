@@ -0,0 +1,4 @@
+-- Optimistic-locking versions, also used as strong ETags on reads
+ALTER TABLE organization ADD COLUMN IF NOT EXISTS version bigint NOT NULL DEFAULT 0;
+ALTER TABLE department ADD COLUMN IF NOT EXISTS version bigint NOT NULL DEFAULT 0;
+ALTER TABLE team ADD COLUMN IF NOT EXISTS version bigint NOT NULL DEFAULT 0;
@@ -0,0 +1,15 @@
+-- Transactional outbox: rows are written in the same transaction as the change they describe
+CREATE TABLE IF NOT EXISTS outbox_event (
+    id bigserial PRIMARY KEY,
+    aggregate_type varchar(32) NOT NULL,
+    aggregate_id uuid NOT NULL,
+    organization_id uuid,
+    event_type varchar(64) NOT NULL,
+    payload text NOT NULL,
+    created_at timestamptz NOT NULL DEFAULT now(),
+    published_at timestamptz
+);
+
+-- The relay only ever scans pending rows in id order; published rows stay out of the index
+CREATE INDEX IF NOT EXISTS idx_outbox_event_pending ON outbox_event (id) WHERE published_at IS NULL;
+CREATE INDEX IF NOT EXISTS idx_outbox_event_published_at ON outbox_event (published_at) WHERE published_at IS NOT NULL;
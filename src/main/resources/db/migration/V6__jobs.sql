@@ -0,0 +1,22 @@
+-- Background jobs; a RUNNING job whose heartbeat went stale is picked up again from its checkpoint
+CREATE TABLE IF NOT EXISTS job (
+    id               uuid PRIMARY KEY,
+    type             varchar(64) NOT NULL,
+    organization_id  uuid,
+    status           varchar(16) NOT NULL,
+    params           text,
+    checkpoint       text,
+    progress_done    bigint NOT NULL DEFAULT 0,
+    progress_total   bigint,
+    result           text,
+    error            text,
+    cancel_requested boolean NOT NULL DEFAULT false,
+    owner            varchar(64),
+    created_at       timestamptz NOT NULL DEFAULT now(),
+    started_at       timestamptz,
+    heartbeat_at     timestamptz,
+    finished_at      timestamptz
+);
+
+CREATE INDEX IF NOT EXISTS idx_job_runnable ON job (created_at) WHERE status IN ('QUEUED', 'RUNNING');
+CREATE INDEX IF NOT EXISTS idx_job_organization ON job (organization_id, created_at);
@@ -0,0 +1,12 @@
+-- First response per Idempotency-Key, replayed to retries; status_code is NULL while the first request runs
+CREATE TABLE IF NOT EXISTS idempotency_record (
+    id           varchar(400) PRIMARY KEY,
+    request_hash char(64) NOT NULL,
+    status_code  integer,
+    content_type varchar(255),
+    body         bytea,
+    created_at   timestamptz NOT NULL DEFAULT now(),
+    expires_at   timestamptz NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_idempotency_record_expires_at ON idempotency_record (expires_at);
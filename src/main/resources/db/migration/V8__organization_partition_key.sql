@@ -0,0 +1,29 @@
+-- Every tenant-owned row carries organization_id, so org-scoped queries filter on it directly instead of
+-- joining up to department, and the tables can be hash-partitioned on it (see db/partitioning)
+ALTER TABLE team ADD COLUMN IF NOT EXISTS organization_id uuid;
+ALTER TABLE team_users ADD COLUMN IF NOT EXISTS organization_id uuid;
+ALTER TABLE team_surveys ADD COLUMN IF NOT EXISTS organization_id uuid;
+ALTER TABLE department_users ADD COLUMN IF NOT EXISTS organization_id uuid;
+ALTER TABLE department_surveys ADD COLUMN IF NOT EXISTS organization_id uuid;
+
+UPDATE team t SET organization_id = d.organization_id FROM department d WHERE d.id = t.department_id;
+UPDATE team_users m SET organization_id = t.organization_id FROM team t WHERE t.id = m.team_id;
+UPDATE team_surveys m SET organization_id = t.organization_id FROM team t WHERE t.id = m.team_id;
+UPDATE department_users m SET organization_id = d.organization_id FROM department d WHERE d.id = m.department_id;
+UPDATE department_surveys m SET organization_id = d.organization_id FROM department d WHERE d.id = m.department_id;
+
+-- Composite keys let the copies follow a unit moved to another organization: ON UPDATE CASCADE rewrites
+-- the teams of a moved department, and the membership rows of a moved team, in the same statement
+ALTER TABLE department ADD CONSTRAINT uk_department_organization_id UNIQUE (organization_id, id);
+ALTER TABLE team ADD CONSTRAINT uk_team_organization_id UNIQUE (organization_id, id);
+
+ALTER TABLE team ADD CONSTRAINT fk_team_department_organization
+    FOREIGN KEY (organization_id, department_id) REFERENCES department (organization_id, id) ON UPDATE CASCADE;
+ALTER TABLE team_users ADD CONSTRAINT fk_team_users_team_organization
+    FOREIGN KEY (organization_id, team_id) REFERENCES team (organization_id, id) ON UPDATE CASCADE;
+ALTER TABLE team_surveys ADD CONSTRAINT fk_team_surveys_team_organization
+    FOREIGN KEY (organization_id, team_id) REFERENCES team (organization_id, id) ON UPDATE CASCADE;
+ALTER TABLE department_users ADD CONSTRAINT fk_department_users_department_organization
+    FOREIGN KEY (organization_id, department_id) REFERENCES department (organization_id, id) ON UPDATE CASCADE;
+ALTER TABLE department_surveys ADD CONSTRAINT fk_department_surveys_department_organization
+    FOREIGN KEY (organization_id, department_id) REFERENCES department (organization_id, id) ON UPDATE CASCADE;
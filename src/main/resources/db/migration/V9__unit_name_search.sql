@@ -0,0 +1,8 @@
+-- Name search for type-ahead pickers: trigram GIN indexes for fuzzy matches, and btree pattern indexes
+-- scoped by organization for prefix matches, which trigrams serve poorly below three characters
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX IF NOT EXISTS idx_team_name_trgm ON team USING gin (lower(name) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_department_name_trgm ON department USING gin (lower(name) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_team_organization_name_prefix ON team (organization_id, lower(name) text_pattern_ops);
+CREATE INDEX IF NOT EXISTS idx_department_organization_name_prefix ON department (organization_id, lower(name) text_pattern_ops);
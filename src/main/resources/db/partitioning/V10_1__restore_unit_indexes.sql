@@ -0,0 +1,14 @@
+-- With out-of-order enabled, V8_1 can run after V9 and V10 were applied to the unpartitioned tables, and the
+-- indexes went away with those tables. This re-creates them on the partitioned tables; it also repairs a
+-- database that was partitioned that way already. On a fresh database it finds everything in place.
+-- A later migration indexing these tables needs the same treatment here.
+
+-- V9: unit name search
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX IF NOT EXISTS idx_team_name_trgm ON team USING gin (lower(name) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_department_name_trgm ON department USING gin (lower(name) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_team_organization_name_prefix ON team (organization_id, lower(name) text_pattern_ops);
+CREATE INDEX IF NOT EXISTS idx_department_organization_name_prefix ON department (organization_id, lower(name) text_pattern_ops);
+
+-- V10 adds nothing on partitioned tables: their primary keys already lead with organization_id
@@ -0,0 +1,110 @@
+-- Opt-in (profile "partitioned"): hash-partition the unit and membership tables by organization_id, so
+-- org-scoped queries touch one partition and a big tenant's bloat and vacuum stay within its partition.
+-- Requires PostgreSQL 15+, where a cross-partition UPDATE fires ON UPDATE CASCADE (organization moves).
+-- Unique keys of a partitioned table must contain the partition key, hence the composite primary keys.
+
+ALTER TABLE team_users RENAME TO team_users_unpartitioned;
+ALTER TABLE team_surveys RENAME TO team_surveys_unpartitioned;
+ALTER TABLE department_users RENAME TO department_users_unpartitioned;
+ALTER TABLE department_surveys RENAME TO department_surveys_unpartitioned;
+ALTER TABLE team RENAME TO team_unpartitioned;
+ALTER TABLE department RENAME TO department_unpartitioned;
+
+CREATE TABLE department (
+    id              uuid NOT NULL,
+    name            varchar(255),
+    organization_id uuid NOT NULL,
+    version         bigint NOT NULL DEFAULT 0
+) PARTITION BY HASH (organization_id);
+
+CREATE TABLE team (
+    id              uuid NOT NULL,
+    name            varchar(255),
+    department_id   uuid NOT NULL,
+    organization_id uuid NOT NULL,
+    version         bigint NOT NULL DEFAULT 0
+) PARTITION BY HASH (organization_id);
+
+CREATE TABLE department_users (
+    organization_id uuid NOT NULL,
+    department_id   uuid NOT NULL,
+    user_id         uuid NOT NULL
+) PARTITION BY HASH (organization_id);
+
+CREATE TABLE department_surveys (
+    organization_id uuid NOT NULL,
+    department_id   uuid NOT NULL,
+    survey_id       uuid NOT NULL
+) PARTITION BY HASH (organization_id);
+
+CREATE TABLE team_users (
+    organization_id uuid NOT NULL,
+    team_id         uuid NOT NULL,
+    user_id         uuid NOT NULL
+) PARTITION BY HASH (organization_id);
+
+CREATE TABLE team_surveys (
+    organization_id uuid NOT NULL,
+    team_id         uuid NOT NULL,
+    survey_id       uuid NOT NULL
+) PARTITION BY HASH (organization_id);
+
+DO $$
+DECLARE
+    parent text;
+BEGIN
+    FOREACH parent IN ARRAY ARRAY['department', 'team', 'department_users', 'department_surveys', 'team_users', 'team_surveys'] LOOP
+        FOR remainder IN 0..${partitionCount} - 1 LOOP
+            EXECUTE format('CREATE TABLE %I PARTITION OF %I FOR VALUES WITH (MODULUS %s, REMAINDER %s)',
+                           parent || '_p' || remainder, parent, ${partitionCount}, remainder);
+        END LOOP;
+    END LOOP;
+END
+$$;
+
+INSERT INTO department (id, name, organization_id, version)
+SELECT id, name, organization_id, version FROM department_unpartitioned;
+INSERT INTO team (id, name, department_id, organization_id, version)
+SELECT id, name, department_id, organization_id, version FROM team_unpartitioned;
+INSERT INTO department_users (organization_id, department_id, user_id)
+SELECT organization_id, department_id, user_id FROM department_users_unpartitioned;
+INSERT INTO department_surveys (organization_id, department_id, survey_id)
+SELECT organization_id, department_id, survey_id FROM department_surveys_unpartitioned;
+INSERT INTO team_users (organization_id, team_id, user_id)
+SELECT organization_id, team_id, user_id FROM team_users_unpartitioned;
+INSERT INTO team_surveys (organization_id, team_id, survey_id)
+SELECT organization_id, team_id, survey_id FROM team_surveys_unpartitioned;
+
+-- Dropped before the keys are added, so constraint and index names can be reused
+DROP TABLE team_users_unpartitioned, team_surveys_unpartitioned,
+           department_users_unpartitioned, department_surveys_unpartitioned,
+           team_unpartitioned, department_unpartitioned;
+
+ALTER TABLE department ADD CONSTRAINT department_pkey PRIMARY KEY (organization_id, id);
+ALTER TABLE team ADD CONSTRAINT team_pkey PRIMARY KEY (organization_id, id);
+ALTER TABLE department_users ADD CONSTRAINT department_users_pkey PRIMARY KEY (organization_id, department_id, user_id);
+ALTER TABLE department_surveys ADD CONSTRAINT department_surveys_pkey PRIMARY KEY (organization_id, department_id, survey_id);
+ALTER TABLE team_users ADD CONSTRAINT team_users_pkey PRIMARY KEY (organization_id, team_id, user_id);
+ALTER TABLE team_surveys ADD CONSTRAINT team_surveys_pkey PRIMARY KEY (organization_id, team_id, survey_id);
+
+ALTER TABLE department ADD CONSTRAINT fk_department_organization
+    FOREIGN KEY (organization_id) REFERENCES organization (id);
+ALTER TABLE team ADD CONSTRAINT fk_team_department_organization
+    FOREIGN KEY (organization_id, department_id) REFERENCES department (organization_id, id) ON UPDATE CASCADE;
+ALTER TABLE team_users ADD CONSTRAINT fk_team_users_team_organization
+    FOREIGN KEY (organization_id, team_id) REFERENCES team (organization_id, id) ON UPDATE CASCADE;
+ALTER TABLE team_surveys ADD CONSTRAINT fk_team_surveys_team_organization
+    FOREIGN KEY (organization_id, team_id) REFERENCES team (organization_id, id) ON UPDATE CASCADE;
+ALTER TABLE department_users ADD CONSTRAINT fk_department_users_department_organization
+    FOREIGN KEY (organization_id, department_id) REFERENCES department (organization_id, id) ON UPDATE CASCADE;
+ALTER TABLE department_surveys ADD CONSTRAINT fk_department_surveys_department_organization
+    FOREIGN KEY (organization_id, department_id) REFERENCES department (organization_id, id) ON UPDATE CASCADE;
+
+-- Lookups by id alone (findById, JPA updates) cannot prune and probe each partition's index
+CREATE INDEX idx_department_id ON department (id);
+CREATE INDEX idx_team_id ON team (id);
+CREATE INDEX idx_team_department_id ON team (department_id);
+CREATE INDEX idx_team_surveys_survey_team ON team_surveys (survey_id, team_id);
+CREATE INDEX idx_department_surveys_survey_department ON department_surveys (survey_id, department_id);
+CREATE INDEX idx_team_users_user_team ON team_users (user_id, team_id);
+CREATE INDEX idx_department_users_user_department ON department_users (user_id, department_id);
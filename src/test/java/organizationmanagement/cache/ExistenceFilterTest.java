@@ -0,0 +1,185 @@
+package organizationmanagement.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import organizationmanagement.event.EntityChangeEvent;
+import organizationmanagement.event.EntityChangeEvent.ChangeType;
+import organizationmanagement.event.EntityChangeEvent.EntityType;
+import organizationmanagement.event.RemoteEntityChangeEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ExistenceFilterTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private CacheInvalidationBus invalidationBus;
+
+    private final Set<UUID> teams = new HashSet<>();
+    private final AtomicInteger databaseLookups = new AtomicInteger();
+    private final Predicate<UUID> database = id -> {
+        databaseLookups.incrementAndGet();
+        return teams.contains(id);
+    };
+
+    // Runs while the team table is being scanned, to interleave changes with a rebuild
+    private Runnable duringTeamScan = () -> { };
+    private ExistenceFilter filter;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        lenient().when(invalidationBus.isListening()).thenReturn(true);
+        lenient().when(jdbcTemplate.queryForObject(startsWith("SELECT count(*)"), eq(Long.class))).thenReturn(0L);
+        lenient().doAnswer(invocation -> {
+            String sql = invocation.getArgument(0);
+            RowCallbackHandler handler = invocation.getArgument(1);
+            if (sql.endsWith(" team")) {
+                for (UUID id : new ArrayList<>(teams)) {
+                    handler.processRow(row(id));
+                }
+                duringTeamScan.run();
+            }
+            return null;
+        }).when(jdbcTemplate).query(anyString(), any(RowCallbackHandler.class));
+
+        // Disabled, so nothing rebuilds in the background; the tests call rebuild() themselves
+        filter = new ExistenceFilter(jdbcTemplate, new TransactionTemplate(mock(PlatformTransactionManager.class)),
+                new SimpleMeterRegistry(), invalidationBus, false);
+    }
+
+    @AfterEach
+    void tearDown() {
+        filter.shutdown();
+    }
+
+    @Test
+    void shouldAnswerNegativesWithoutTheDatabase() {
+        // Given
+        UUID existing = UUID.randomUUID();
+        teams.add(existing);
+        filter.rebuild();
+
+        // When / Then
+        assertFalse(filter.exists(EntityType.TEAM, UUID.randomUUID(), database));
+        assertEquals(0, databaseLookups.get());
+        assertTrue(filter.exists(EntityType.TEAM, existing, database));
+        assertEquals(1, databaseLookups.get());
+    }
+
+    @Test
+    void shouldGoToDatabaseWhileBusIsNotListening() {
+        // Given
+        filter.rebuild();
+        when(invalidationBus.isListening()).thenReturn(false);
+
+        // When
+        filter.exists(EntityType.TEAM, UUID.randomUUID(), database);
+
+        // Then
+        assertEquals(1, databaseLookups.get());
+    }
+
+    @Test
+    void shouldGoToDatabaseAfterBulkChangeUntilRebuilt() {
+        // Given
+        filter.rebuild();
+        filter.onEntityChange(event(EntityType.DEPARTMENT, ChangeType.BULK_CHANGED, null));
+
+        // When / Then
+        filter.exists(EntityType.TEAM, UUID.randomUUID(), database);
+        assertEquals(1, databaseLookups.get());
+
+        filter.rebuild();
+        filter.exists(EntityType.TEAM, UUID.randomUUID(), database);
+        assertEquals(1, databaseLookups.get());
+    }
+
+    @Test
+    void shouldGoToDatabaseAfterResync() {
+        // Given
+        filter.rebuild();
+        filter.onRemoteEntityChange(RemoteEntityChangeEvent.resync());
+
+        // When
+        filter.exists(EntityType.TEAM, UUID.randomUUID(), database);
+
+        // Then
+        assertEquals(1, databaseLookups.get());
+    }
+
+    @Test
+    void shouldLearnIdsCreatedOnOtherReplicas() {
+        // Given
+        filter.rebuild();
+        UUID created = UUID.randomUUID();
+        teams.add(created);
+
+        // When
+        filter.onRemoteEntityChange(new RemoteEntityChangeEvent(event(EntityType.TEAM, ChangeType.CREATED, created)));
+
+        // Then
+        assertTrue(filter.exists(EntityType.TEAM, created, database));
+    }
+
+    @Test
+    void shouldKeepIdsCreatedWhileRebuilding() {
+        // Given: a team committed after the scan passed its position
+        UUID created = UUID.randomUUID();
+        duringTeamScan = () -> {
+            teams.add(created);
+            filter.afterEntityChange(event(EntityType.TEAM, ChangeType.CREATED, created));
+        };
+
+        // When
+        filter.rebuild();
+
+        // Then
+        assertTrue(filter.exists(EntityType.TEAM, created, database));
+    }
+
+    @Test
+    void shouldDiscardRebuildInvalidatedWhileScanning() {
+        // Given
+        duringTeamScan = () -> filter.onRemoteEntityChange(RemoteEntityChangeEvent.resync());
+
+        // When
+        filter.rebuild();
+
+        // Then: the scan may have missed changes, so its result is never trusted
+        filter.exists(EntityType.TEAM, UUID.randomUUID(), database);
+        assertEquals(1, databaseLookups.get());
+    }
+
+    private static EntityChangeEvent event(EntityType type, ChangeType changeType, UUID id) {
+        return new EntityChangeEvent(type, changeType, UUID.randomUUID(), id, null, null);
+    }
+
+    private static ResultSet row(UUID id) throws Exception {
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.getObject(1, UUID.class)).thenReturn(id);
+        return resultSet;
+    }
+}
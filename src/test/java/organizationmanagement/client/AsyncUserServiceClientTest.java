@@ -0,0 +1,154 @@
+package organizationmanagement.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import organizationmanagement.config.AsyncClientProperties;
+import organizationmanagement.dto.UserDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AsyncUserServiceClientTest {
+
+    private static final String SMILE = "application/x-jackson-smile";
+
+    @Mock
+    private HttpClient httpClient;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final MappingJackson2SmileHttpMessageConverter smileConverter = new MappingJackson2SmileHttpMessageConverter();
+    private final List<CompletableFuture<HttpResponse<byte[]>>> inFlight = new CopyOnWriteArrayList<>();
+    private AsyncClientProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        properties = new AsyncClientProperties();
+        properties.setMinSamples(1);
+        properties.setTimeoutMs(2000);
+        properties.getHedging().setQuantile(0.5);
+        properties.getHedging().setBudgetRatio(0.5);
+    }
+
+    @Test
+    void shouldHedgeOnlyWithinBudget() throws Exception {
+        // Given: one fast call, so hedges fire after about 1 ms, then downstream calls that hang
+        HttpResponse<byte[]> empty = response(200, "application/json", "[]".getBytes(StandardCharsets.UTF_8));
+        AtomicInteger calls = new AtomicInteger();
+        doAnswer(invocation -> {
+            if (calls.getAndIncrement() == 0) {
+                return CompletableFuture.completedFuture(empty);
+            }
+            CompletableFuture<HttpResponse<byte[]>> call = new CompletableFuture<>();
+            inFlight.add(call);
+            return call;
+        }).when(httpClient).sendAsync(any(), any());
+        AsyncUserServiceClient client = client("none");
+        List<UUID> ids = List.of(UUID.randomUUID());
+
+        assertEquals(List.of(), client.getUsersByIds(ids).join());
+
+        // When: the second call earns a full hedge token (2 x 0.5) and spends it
+        CompletableFuture<List<UserDTO>> second = client.getUsersByIds(ids);
+        waitFor(() -> inFlight.size() == 2);
+        inFlight.get(1).complete(empty);
+
+        // Then
+        assertEquals(List.of(), second.get(1, TimeUnit.SECONDS));
+        assertEquals(1, hedges("fired"));
+        waitFor(() -> hedges("won") == 1);
+
+        // When: the third call has half a token left, which is not enough
+        client.getUsersByIds(ids);
+        waitFor(() -> hedges("budget_exhausted") == 1);
+
+        // Then
+        assertEquals(1, hedges("fired"));
+        assertEquals(3, inFlight.size());
+        verify(httpClient, times(4)).sendAsync(any(), any());
+    }
+
+    @Test
+    void shouldAskForBinaryFormatAndDecodeByContentType() throws Exception {
+        // Given
+        UserDTO user = new UserDTO();
+        user.setId(UUID.randomUUID());
+        user.setUsername("alice");
+        byte[] body = smileConverter.getObjectMapper().writeValueAsBytes(List.of(user));
+        doReturn(CompletableFuture.completedFuture(response(200, SMILE, body)))
+                .when(httpClient).sendAsync(any(), any());
+        properties.getHedging().setEnabled(false);
+
+        // When
+        List<UserDTO> users = client("smile").getUsersByIds(List.of(user.getId())).get(1, TimeUnit.SECONDS);
+
+        // Then
+        assertEquals(List.of(user), users);
+        ArgumentCaptor<HttpRequest> request = ArgumentCaptor.forClass(HttpRequest.class);
+        verify(httpClient).sendAsync(request.capture(), any());
+        assertEquals(SMILE + ", application/json;q=0.9", request.getValue().headers().firstValue("Accept").orElse(null));
+    }
+
+    @Test
+    void shouldTreatMissingUserAsNotExisting() throws Exception {
+        // Given
+        doReturn(CompletableFuture.completedFuture(response(404, "application/json", new byte[0])))
+                .when(httpClient).sendAsync(any(), any());
+
+        // When / Then
+        assertFalse(client("smile").userExists(UUID.randomUUID()).get(1, TimeUnit.SECONDS));
+    }
+
+    private AsyncUserServiceClient client(String binaryFormat) {
+        DownstreamCodec codec = new DownstreamCodec(new ObjectMapper(), smileConverter,
+                new MappingJackson2CborHttpMessageConverter(), binaryFormat);
+        return new AsyncUserServiceClient(httpClient, "http://user-service", codec, properties, meterRegistry);
+    }
+
+    private long hedges(String outcome) {
+        Counter counter = meterRegistry.find("organization.client.hedges").tag("outcome", outcome).counter();
+        return counter != null ? (long) counter.count() : 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static HttpResponse<byte[]> response(int status, String contentType, byte[] body) {
+        HttpResponse<byte[]> response = mock(HttpResponse.class);
+        lenient().when(response.statusCode()).thenReturn(status);
+        lenient().when(response.headers()).thenReturn(
+                HttpHeaders.of(Map.of("Content-Type", List.of(contentType)), (name, value) -> true));
+        lenient().when(response.body()).thenReturn(body);
+        return response;
+    }
+
+    private static void waitFor(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "condition not reached in time");
+            Thread.sleep(5);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package organizationmanagement.client;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LatencyHistogramTest {
+
+    private static final long MINUTE = TimeUnit.MINUTES.toNanos(1);
+
+    @Test
+    void shouldReportNothingBelowMinSamples() {
+        LatencyHistogram histogram = new LatencyHistogram(MINUTE);
+        for (int i = 0; i < 9; i++) {
+            histogram.record(TimeUnit.MILLISECONDS.toNanos(5));
+        }
+
+        assertEquals(-1, histogram.percentileNanos(0.5, 10));
+        assertTrue(histogram.percentileNanos(0.5, 9) > 0);
+    }
+
+    @Test
+    void shouldReportUpperBoundOfBucketHoldingQuantile() {
+        LatencyHistogram histogram = new LatencyHistogram(MINUTE);
+        for (int i = 0; i < 99; i++) {
+            histogram.record(TimeUnit.MICROSECONDS.toNanos(500));
+        }
+        histogram.record(TimeUnit.MILLISECONDS.toNanos(100));
+
+        // Everything up to 1 ms shares the first bucket
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(1), histogram.percentileNanos(0.5, 1));
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(1), histogram.percentileNanos(0.99, 1));
+
+        // The slowest call lands in a bucket at most 2^(1/4) above it
+        long max = histogram.percentileNanos(1.0, 1);
+        assertTrue(max >= TimeUnit.MILLISECONDS.toNanos(100), "upper bound " + max);
+        assertTrue(max <= TimeUnit.MILLISECONDS.toNanos(100) * 1.19, "upper bound " + max);
+    }
+
+    @Test
+    void shouldNeverReportBelowRecordedLatency() {
+        LatencyHistogram histogram = new LatencyHistogram(MINUTE);
+        long[] latenciesMillis = {2, 3, 7, 15, 40, 250, 1200};
+        for (long millis : latenciesMillis) {
+            LatencyHistogram single = new LatencyHistogram(MINUTE);
+            single.record(TimeUnit.MILLISECONDS.toNanos(millis));
+            histogram.record(TimeUnit.MILLISECONDS.toNanos(millis));
+
+            long bound = single.percentileNanos(1.0, 1);
+            assertTrue(bound >= TimeUnit.MILLISECONDS.toNanos(millis), millis + " ms reported as " + bound);
+        }
+        assertTrue(histogram.percentileNanos(1.0, 1) >= TimeUnit.MILLISECONDS.toNanos(1200));
+    }
+
+    @Test
+    void shouldForgetLatenciesOlderThanTwoWindows() throws InterruptedException {
+        long window = TimeUnit.MILLISECONDS.toNanos(20);
+        LatencyHistogram histogram = new LatencyHistogram(window);
+        histogram.record(TimeUnit.MILLISECONDS.toNanos(5));
+        assertTrue(histogram.percentileNanos(0.5, 1) > 0);
+
+        TimeUnit.NANOSECONDS.sleep(3 * window);
+
+        assertEquals(-1, histogram.percentileNanos(0.5, 1));
+    }
+}
@@ -0,0 +1,153 @@
+package organizationmanagement.filter;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import organizationmanagement.security.ClientAddressResolver;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.util.StreamUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class IdempotencyFilterTest {
+
+    private static final String KEY_ID = "user:alice|key-1";
+
+    @Mock
+    private IdempotencyStore store;
+
+    @Mock
+    private FilterChain filterChain;
+
+    private IdempotencyFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        filter = new IdempotencyFilter(store, new ClientAddressResolver(1), new SimpleMeterRegistry(), true);
+    }
+
+    @Test
+    void shouldReplayStoredResponseForRetryOfSameRequest() throws Exception {
+        // Given: the first request ran and its response was stored
+        when(store.findCompleted(KEY_ID)).thenReturn(null);
+        when(store.claim(eq(KEY_ID), anyString())).thenReturn(true);
+        doAnswer(invocation -> {
+            HttpServletResponse response = invocation.getArgument(1);
+            response.setStatus(201);
+            response.setContentType("application/json");
+            response.getWriter().write("{\"id\":\"1\"}");
+            response.getWriter().flush();
+            return null;
+        }).when(filterChain).doFilter(any(), any());
+        filter.doFilterInternal(request("{\"name\":\"Team\"}"), new MockHttpServletResponse(), filterChain);
+
+        ArgumentCaptor<String> hash = ArgumentCaptor.forClass(String.class);
+        verify(store).complete(eq(KEY_ID), hash.capture(), eq(201), any(), any());
+        byte[] body = "{\"id\":\"1\"}".getBytes(StandardCharsets.UTF_8);
+        when(store.findCompleted(KEY_ID)).thenReturn(
+                new IdempotencyStore.StoredResponse(hash.getValue(), 201, "application/json", body, Instant.now().plusSeconds(60)));
+
+        // When: the client retries
+        MockHttpServletResponse retry = new MockHttpServletResponse();
+        filter.doFilterInternal(request("{\"name\":\"Team\"}"), retry, filterChain);
+
+        // Then
+        verify(filterChain, times(1)).doFilter(any(), any());
+        assertEquals(201, retry.getStatus());
+        assertEquals("true", retry.getHeader("Idempotent-Replayed"));
+        assertEquals("{\"id\":\"1\"}", retry.getContentAsString());
+    }
+
+    @Test
+    void shouldRejectKeyReusedForDifferentRequest() throws Exception {
+        // Given
+        when(store.findCompleted(KEY_ID)).thenReturn(
+                new IdempotencyStore.StoredResponse("other-hash", 201, "application/json", new byte[0], Instant.now().plusSeconds(60)));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        filter.doFilterInternal(request("{\"name\":\"Other\"}"), response, filterChain);
+
+        // Then
+        assertEquals(422, response.getStatus());
+        verify(filterChain, never()).doFilter(any(), any());
+        verify(store, never()).claim(anyString(), anyString());
+    }
+
+    @Test
+    void shouldAnswerConflictWhileFirstRequestIsRunning() throws Exception {
+        // Given: another replica holds the key and has not finished
+        when(store.findCompleted(KEY_ID)).thenReturn(null);
+        when(store.claim(eq(KEY_ID), anyString())).thenReturn(false);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        filter.doFilterInternal(request("{\"name\":\"Team\"}"), response, filterChain);
+
+        // Then
+        assertEquals(409, response.getStatus());
+        assertEquals("1", response.getHeader("Retry-After"));
+        verify(filterChain, never()).doFilter(any(), any());
+        verify(store, never()).release(anyString());
+    }
+
+    @Test
+    void shouldReleaseKeyWhenRequestFailsWithServerError() throws Exception {
+        // Given
+        when(store.findCompleted(KEY_ID)).thenReturn(null);
+        when(store.claim(eq(KEY_ID), anyString())).thenReturn(true);
+        doAnswer(invocation -> {
+            ((HttpServletResponse) invocation.getArgument(1)).setStatus(503);
+            return null;
+        }).when(filterChain).doFilter(any(), any());
+
+        // When
+        filter.doFilterInternal(request("{\"name\":\"Team\"}"), new MockHttpServletResponse(), filterChain);
+
+        // Then
+        verify(store, never()).complete(anyString(), anyString(), anyInt(), any(), any());
+        verify(store).release(KEY_ID);
+    }
+
+    @Test
+    void shouldPassBufferedBodyToController() throws Exception {
+        // Given
+        when(store.findCompleted(KEY_ID)).thenReturn(null);
+        when(store.claim(eq(KEY_ID), anyString())).thenReturn(true);
+        StringBuilder seen = new StringBuilder();
+        doAnswer(invocation -> {
+            ServletRequest chainRequest = invocation.getArgument(0);
+            seen.append(StreamUtils.copyToString(chainRequest.getInputStream(), StandardCharsets.UTF_8));
+            return null;
+        }).when(filterChain).doFilter(any(), any());
+
+        // When
+        filter.doFilterInternal(request("{\"name\":\"Team\"}"), new MockHttpServletResponse(), filterChain);
+
+        // Then
+        assertEquals("{\"name\":\"Team\"}", seen.toString());
+    }
+
+    private static MockHttpServletRequest request(String body) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/teams");
+        request.addHeader(IdempotencyFilter.HEADER, "key-1");
+        request.setAttribute("username", "alice");
+        request.setContentType("application/json");
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+}
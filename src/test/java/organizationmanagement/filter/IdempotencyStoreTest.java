@@ -0,0 +1,115 @@
+package organizationmanagement.filter;
+
+import organizationmanagement.model.IdempotencyRecord;
+import organizationmanagement.repository.IdempotencyRecordRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * The takeover rule itself is the WHERE clause of the claim upsert, which needs PostgreSQL; these tests pin
+ * the cut-offs the store passes to it and that expired or abandoned keys are never replayed.
+ */
+@ExtendWith(MockitoExtension.class)
+class IdempotencyStoreTest {
+
+    private static final String KEY_ID = "user:alice|key-1";
+    private static final Duration RETENTION = Duration.ofHours(24);
+    private static final Duration IN_PROGRESS_TIMEOUT = Duration.ofMinutes(1);
+
+    @Mock
+    private IdempotencyRecordRepository repository;
+
+    private IdempotencyStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new IdempotencyStore(repository, RETENTION, IN_PROGRESS_TIMEOUT, 100);
+    }
+
+    @Test
+    void shouldTakeOverKeysStaleForLongerThanInProgressTimeout() {
+        // Given
+        when(repository.claim(eq(KEY_ID), eq("hash"), any(), any())).thenReturn(1);
+        Instant before = Instant.now();
+
+        // When
+        boolean claimed = store.claim(KEY_ID, "hash");
+
+        // Then
+        Instant after = Instant.now();
+        ArgumentCaptor<Instant> expiresAt = ArgumentCaptor.forClass(Instant.class);
+        ArgumentCaptor<Instant> staleBefore = ArgumentCaptor.forClass(Instant.class);
+        verify(repository).claim(eq(KEY_ID), eq("hash"), expiresAt.capture(), staleBefore.capture());
+        assertTrue(claimed);
+        assertFalse(staleBefore.getValue().isBefore(before.minus(IN_PROGRESS_TIMEOUT)));
+        assertFalse(staleBefore.getValue().isAfter(after.minus(IN_PROGRESS_TIMEOUT)));
+        assertFalse(expiresAt.getValue().isBefore(before.plus(RETENTION)));
+        assertFalse(expiresAt.getValue().isAfter(after.plus(RETENTION)));
+    }
+
+    @Test
+    void shouldReportKeyHeldByAnotherRequest() {
+        // Given
+        when(repository.claim(eq(KEY_ID), eq("hash"), any(), any())).thenReturn(0);
+
+        // When / Then
+        assertFalse(store.claim(KEY_ID, "hash"));
+    }
+
+    @Test
+    void shouldNotReplayExpiredResponse() {
+        // Given: a completed record past its retention, which the next claim overwrites
+        when(repository.findById(KEY_ID)).thenReturn(Optional.of(record(201, Instant.now().minusSeconds(1))));
+
+        // When / Then
+        assertNull(store.findCompleted(KEY_ID));
+    }
+
+    @Test
+    void shouldNotReplayRequestThatNeverFinished() {
+        // Given
+        when(repository.findById(KEY_ID)).thenReturn(Optional.of(record(null, Instant.now().plus(RETENTION))));
+
+        // When / Then
+        assertNull(store.findCompleted(KEY_ID));
+    }
+
+    @Test
+    void shouldServeCompletedResponseFromCacheAfterFirstRead() {
+        // Given
+        when(repository.findById(KEY_ID)).thenReturn(Optional.of(record(201, Instant.now().plus(RETENTION))));
+
+        // When
+        IdempotencyStore.StoredResponse first = store.findCompleted(KEY_ID);
+        IdempotencyStore.StoredResponse second = store.findCompleted(KEY_ID);
+
+        // Then
+        assertNotNull(first);
+        assertEquals(201, second.statusCode());
+        verify(repository, times(1)).findById(KEY_ID);
+    }
+
+    private static IdempotencyRecord record(Integer statusCode, Instant expiresAt) {
+        return IdempotencyRecord.builder()
+                .id(KEY_ID)
+                .requestHash("hash")
+                .statusCode(statusCode)
+                .contentType("application/json")
+                .body(new byte[0])
+                .createdAt(Instant.now().minus(IN_PROGRESS_TIMEOUT.multipliedBy(2)))
+                .expiresAt(expiresAt)
+                .build();
+    }
+}
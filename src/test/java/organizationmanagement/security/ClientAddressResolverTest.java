@@ -0,0 +1,47 @@
+package organizationmanagement.security;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ClientAddressResolverTest {
+
+    @Test
+    void shouldUseTheAddressAppendedByTheGateway() {
+        HttpServletRequest request = request("6.6.6.6, 203.0.113.7", "10.0.0.5");
+
+        assertEquals("203.0.113.7", new ClientAddressResolver(1).resolve(request));
+    }
+
+    @Test
+    void shouldIgnoreClientSuppliedEntriesLeftOfTrustedHops() {
+        HttpServletRequest first = request("1.1.1.1, 203.0.113.7, 10.0.0.9", "10.0.0.5");
+        HttpServletRequest second = request("2.2.2.2, 203.0.113.7, 10.0.0.9", "10.0.0.5");
+
+        ClientAddressResolver resolver = new ClientAddressResolver(2);
+        assertEquals("203.0.113.7", resolver.resolve(first));
+        assertEquals(resolver.resolve(first), resolver.resolve(second));
+    }
+
+    @Test
+    void shouldFallBackToRemoteAddressWhenHeaderIsShorterThanTrustedHops() {
+        HttpServletRequest request = request("203.0.113.7", "10.0.0.5");
+
+        assertEquals("10.0.0.5", new ClientAddressResolver(2).resolve(request));
+    }
+
+    @Test
+    void shouldUseRemoteAddressWithoutHeaderOrTrustedProxies() {
+        assertEquals("10.0.0.5", new ClientAddressResolver(1).resolve(request(null, "10.0.0.5")));
+        assertEquals("10.0.0.5", new ClientAddressResolver(0).resolve(request("203.0.113.7", "10.0.0.5")));
+    }
+
+    private static HttpServletRequest request(String forwardedFor, String remoteAddr) {
+        HttpServletRequest request = mock(HttpServletRequest.class);
+        lenient().when(request.getHeader("X-Forwarded-For")).thenReturn(forwardedFor);
+        lenient().when(request.getRemoteAddr()).thenReturn(remoteAddr);
+        return request;
+    }
+}
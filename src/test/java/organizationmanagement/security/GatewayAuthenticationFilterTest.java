@@ -49,6 +49,20 @@ class GatewayAuthenticationFilterTest {
         verify(response, never()).sendError(anyInt(), anyString());
     }
 
+    @Test
+    void shouldAllowMembershipLookupWithoutAuthentication() throws Exception {
+        // Given
+        when(request.getRequestURI()).thenReturn("/api/organizations/memberships/lookup");
+        when(request.getMethod()).thenReturn("POST");
+
+        // When
+        filter.doFilterInternal(request, response, filterChain);
+
+        // Then
+        verify(filterChain).doFilter(request, response);
+        verify(response, never()).sendError(anyInt(), anyString());
+    }
+
     @Test
     void shouldAuthenticateWithValidGatewayHeaders() throws Exception {
         // Given